@@ -0,0 +1,18 @@
+-- 이메일 발송 대기열 (outbox) - EmailOutbox 엔티티
+-- prod 는 ddl-auto: validate 이므로 배포 전에 직접 실행
+CREATE TABLE email_outbox (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    recipient       VARCHAR(255) NOT NULL,
+    subject         VARCHAR(255) NOT NULL,
+    content         TEXT,                                  -- 발송 완료(SENT) 후 NULL
+    status          ENUM ('DEAD','PENDING','SENDING','SENT') NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,                 -- SENDING 이면 임대 만료 시각
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6)  NOT NULL,
+    sent_at         DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- 발송 대상 조회 (status IN (...) AND next_attempt_at <= now ORDER BY next_attempt_at)
+CREATE INDEX idx_email_outbox_dispatch ON email_outbox (status, next_attempt_at);
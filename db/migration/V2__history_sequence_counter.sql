@@ -0,0 +1,72 @@
+-- 히스토리별 content sequence number 카운터 (BaseHistory.lastSequenceNumber)
+--  + (history_id, sequence_number) 유니크 제약 (SummaryContent / ParaphraseContent / CiteContent)
+-- prod 는 ddl-auto: validate 이므로 배포 전에 직접 실행
+-- 순서: 1. 컬럼 추가 -> 2. 중복 번호 정리 -> 3. 카운터 채우기 -> 4. 유니크 제약
+
+-- 1. 카운터 컬럼 추가
+ALTER TABLE summary_history    ADD COLUMN last_sequence_number INT NOT NULL DEFAULT 0;
+ALTER TABLE paraphrase_history ADD COLUMN last_sequence_number INT NOT NULL DEFAULT 0;
+ALTER TABLE cite_history       ADD COLUMN last_sequence_number INT NOT NULL DEFAULT 0;
+
+-- 2. 기존 MAX+1 방식에서 동시 저장으로 생긴 중복 번호 정리
+--  - 같은 번호 중 가장 먼저 저장된(id 가 작은) 행은 그대로 두고, 나머지만 히스토리의 최대 번호 뒤로 이동
+--  - 클라이언트가 번호로 조회하므로 중복이 아닌 행의 번호는 바꾸지 않음
+UPDATE summary_contents c
+    JOIN (SELECT d.id, ROW_NUMBER() OVER (PARTITION BY d.history_id ORDER BY d.id) AS rn
+          FROM summary_contents d
+          WHERE EXISTS (SELECT 1 FROM summary_contents e
+                        WHERE e.history_id = d.history_id
+                          AND e.sequence_number = d.sequence_number
+                          AND e.id < d.id)) dup ON dup.id = c.id
+    JOIN (SELECT history_id, MAX(sequence_number) AS max_seq
+          FROM summary_contents
+          GROUP BY history_id) m ON m.history_id = c.history_id
+SET c.sequence_number = m.max_seq + dup.rn;
+
+UPDATE paraphrase_contents c
+    JOIN (SELECT d.id, ROW_NUMBER() OVER (PARTITION BY d.history_id ORDER BY d.id) AS rn
+          FROM paraphrase_contents d
+          WHERE EXISTS (SELECT 1 FROM paraphrase_contents e
+                        WHERE e.history_id = d.history_id
+                          AND e.sequence_number = d.sequence_number
+                          AND e.id < d.id)) dup ON dup.id = c.id
+    JOIN (SELECT history_id, MAX(sequence_number) AS max_seq
+          FROM paraphrase_contents
+          GROUP BY history_id) m ON m.history_id = c.history_id
+SET c.sequence_number = m.max_seq + dup.rn;
+
+UPDATE cite_contents c
+    JOIN (SELECT d.id, ROW_NUMBER() OVER (PARTITION BY d.history_id ORDER BY d.id) AS rn
+          FROM cite_contents d
+          WHERE EXISTS (SELECT 1 FROM cite_contents e
+                        WHERE e.history_id = d.history_id
+                          AND e.sequence_number = d.sequence_number
+                          AND e.id < d.id)) dup ON dup.id = c.id
+    JOIN (SELECT history_id, MAX(sequence_number) AS max_seq
+          FROM cite_contents
+          GROUP BY history_id) m ON m.history_id = c.history_id
+SET c.sequence_number = m.max_seq + dup.rn;
+
+-- 3. 카운터를 현재 최대 번호로 채움 (content 가 없으면 0)
+UPDATE summary_history h
+SET h.last_sequence_number = COALESCE((SELECT MAX(c.sequence_number)
+                                       FROM summary_contents c
+                                       WHERE c.history_id = h.id), 0);
+
+UPDATE paraphrase_history h
+SET h.last_sequence_number = COALESCE((SELECT MAX(c.sequence_number)
+                                       FROM paraphrase_contents c
+                                       WHERE c.history_id = h.id), 0);
+
+UPDATE cite_history h
+SET h.last_sequence_number = COALESCE((SELECT MAX(c.sequence_number)
+                                       FROM cite_contents c
+                                       WHERE c.history_id = h.id), 0);
+
+-- 4. 유니크 제약 (카운터를 채운 뒤에 추가)
+ALTER TABLE summary_contents
+    ADD CONSTRAINT uq_summary_contents_history_seq UNIQUE (history_id, sequence_number);
+ALTER TABLE paraphrase_contents
+    ADD CONSTRAINT uq_paraphrase_contents_history_seq UNIQUE (history_id, sequence_number);
+ALTER TABLE cite_contents
+    ADD CONSTRAINT uq_cite_contents_history_seq UNIQUE (history_id, sequence_number);
@@ -0,0 +1,14 @@
+-- 히스토리/폴더 커서 기반 목록용 인덱스 (각 엔티티의 @Table(indexes = ...) 와 같은 이름/컬럼)
+--  - 히스토리: BaseHistoryRepository.findNextByFolderId / findNextByFolderIdIsNull (member_id, folder_id 일치 후 created_at, id 역순)
+--  - 폴더:     BaseFolderRepository.findNext (member_id 일치 후 created_at, id 역순)
+-- prod 는 ddl-auto: validate 이므로 배포 전에 직접 실행
+
+-- 1. 히스토리
+CREATE INDEX idx_summary_history_cursor    ON summary_history    (member_id, folder_id, created_at, id);
+CREATE INDEX idx_paraphrase_history_cursor ON paraphrase_history (member_id, folder_id, created_at, id);
+CREATE INDEX idx_cite_history_cursor       ON cite_history       (member_id, folder_id, created_at, id);
+
+-- 2. 폴더
+CREATE INDEX idx_summary_folder_cursor    ON summary_folder    (member_id, created_at, id);
+CREATE INDEX idx_paraphrase_folder_cursor ON paraphrase_folder (member_id, created_at, id);
+CREATE INDEX idx_cite_folder_cursor       ON cite_folder       (member_id, created_at, id);
@@ -0,0 +1,63 @@
+package com.phraiz.back.common.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나의 access token 인증 CPU 비용 (JwtAuthenticationFilter 기준)
+ * - baseline    : 기존 방식 - validateToken + getSubjectFromToken, 호출마다 파서 생성 후 서명 검증 (2회)
+ * - parseOnce   : 공유 파서로 한 번만 서명 검증 (캐시 미스일 때의 JwtUtil.parse)
+ * - cachedParse : JwtUtil.parse 캐시 적중 (토큰 해시 + 만료 확인만)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private Key key;
+    private JwtParser sharedParser;
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        sharedParser = Jwts.parserBuilder().setSigningKey(key).build();
+        jwtUtil = new JwtUtil(SECRET, TimeUnit.HOURS.toMillis(1), TimeUnit.DAYS.toMillis(14), 10_000);
+        token = jwtUtil.generateAccessToken("member", 1L);
+        jwtUtil.parse(token);
+    }
+
+    @Benchmark
+    public String baseline() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public String parseOnce() {
+        Claims body = sharedParser.parseClaimsJws(token).getBody();
+        return body.getSubject();
+    }
+
+    @Benchmark
+    public String cachedParse() {
+        return jwtUtil.parse(token).subject();
+    }
+}
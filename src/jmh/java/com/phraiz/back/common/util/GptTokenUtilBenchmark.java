@@ -0,0 +1,68 @@
+package com.phraiz.back.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 수 계산 비용 - 모델 토크나이저(GptTokenUtil.countTokens) vs 기존 근사식(글자 수 x 1.5)
+ * - 요약/패러프레이징 요청마다 입력 전체를 한 번 계산하므로 입력 길이별로 측정
+ * - 한글만 / 영문만 / 혼합 텍스트 (BPE 병합 횟수가 언어에 따라 다름)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GptTokenUtilBenchmark {
+
+    private static final String KOREAN =
+            "생성형 인공지능은 대학 글쓰기 교육에서 초안 작성과 피드백 과정을 바꾸고 있으며, 학습자의 주도성을 유지하는 방법이 중요하다. ";
+    private static final String ENGLISH =
+            "Generative models are changing how drafts are written and reviewed, so keeping the learner in control matters. ";
+
+    // 입력 글자 수
+    @Param({"1000", "10000", "100000"})
+    private int length;
+
+    @Param({"korean", "english", "mixed"})
+    private String language;
+
+    private String text;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String unit = switch (language) {
+            case "korean" -> KOREAN;
+            case "english" -> ENGLISH;
+            default -> KOREAN + ENGLISH;
+        };
+        StringBuilder builder = new StringBuilder(length + unit.length());
+        while (builder.length() < length) {
+            builder.append(unit);
+        }
+        text = builder.substring(0, length);
+        // 어휘 로드는 최초 호출에서 한 번만 - 측정에서 제외
+        GptTokenUtil.countTokens("warm up");
+    }
+
+    @Benchmark
+    public int countTokens() {
+        return GptTokenUtil.countTokens(text);
+    }
+
+    // 기존 GptTokenUtil.estimateTokenCount (글자 수 x 1.5)
+    @Benchmark
+    public int legacyEstimate() {
+        if (text == null || text.isBlank()) {
+            return 0;
+        }
+        return (int) Math.ceil(text.length() * 1.5);
+    }
+}
@@ -1,19 +1,17 @@
 package com.phraiz.back.cite.controller;
 
 import com.phraiz.back.cite.dto.request.CitationRequestDTO;
+import com.phraiz.back.cite.dto.response.CitationRenderDTO;
 import com.phraiz.back.cite.dto.response.CitationHistoryContentResponseDTO;
 import com.phraiz.back.cite.dto.response.CitationResponseDTO;
-import com.phraiz.back.cite.dto.response.Creator;
 import com.phraiz.back.cite.dto.response.ZoteroItem;
 import com.phraiz.back.cite.exception.CiteErrorCode;
-import com.phraiz.back.cite.parser.DbpiaAuthorParser;
-import com.phraiz.back.cite.parser.KissAuthorParser;
-import com.phraiz.back.cite.parser.KyoboAuthorParser;
 import com.phraiz.back.cite.service.*;
 import com.phraiz.back.common.dto.request.HistoryUpdateDTO;
 import com.phraiz.back.common.dto.request.UpdateRequestDTO;
+import com.phraiz.back.common.dto.response.CursorPageDTO;
 import com.phraiz.back.common.dto.response.FoldersResponseDTO;
-import com.phraiz.back.common.dto.response.HistoriesResponseDTO;
+import com.phraiz.back.common.dto.response.HistoryListItemDTO;
 import com.phraiz.back.common.exception.custom.BusinessLogicException;
 import com.phraiz.back.common.security.user.CustomUserDetails;
 import com.phraiz.back.common.util.SecurityUtil;
@@ -37,10 +35,11 @@ import java.util.Map;
 @Slf4j
 public class CiteController {
     private final CiteConvertService citeConvertService;
-    private final CiteTranslationService citeTranslationService;
+    private final CiteMetadataService citeMetadataService;
     private final CiteService citeService;
     private final CiteHistoryService citeHistoryService;
     private final CiteFolderService citeFolderService;
+    private final CiteRenderService citeRenderService;
 
     /* ---------- 1. 인용문 생성 과정 ---------- */
     // 1. 인용문 저장 과정
@@ -51,36 +50,11 @@ public class CiteController {
         Map<String, Object> response = new HashMap<>();
         String url=request.get("url");
 
-        // 1. URL 을 Zotero Translation Server 에 보내서 논문 등의 메타데이터를 가져옴
-        log.info("[getUrlData] Zotero Translation Server 호출 시작");
-        ZoteroItem item = citeTranslationService.translateFromUrl(url);
-        log.info("[getUrlData] Zotero Translation Server 응답 완료: item_title={}", item.getTitle());
-
-        // author null 확인
-        if (item.getCreators() == null || item.getCreators().isEmpty() ||
-                (item.getCreators().get(0).getLastName() == null && item.getCreators().get(0).getFirstName() == null)) {
-            log.info("[getUrlData] metadata author==null");
-            List<Creator> creators = null;
-            if (url.contains("dbpia.co.kr")) {
-                // DbpiaAuthorParser 호출
-                creators = DbpiaAuthorParser.getAuthor(url);
-                item.setCreators(creators);
-            } else if (url.contains("kiss.kstudy.com")) {
-                // KissAuthorParser 호출
-                creators = KissAuthorParser.getAuthor(url);
-                item.setCreators(creators);
-            }else if (url.contains("scholar.kyobobook.co.kr")) {
-                // KyoboAuthorParser 호출
-                creators = KyoboAuthorParser.getAuthors(url);
-                item.setCreators(creators);
-            }
-            // 저자를 계속 찾지 못하면 예외를 발생
-            if (creators == null || creators.isEmpty()) {
-                throw new BusinessLogicException(CiteErrorCode.METADATA_EXTRACTION_FAILED);
-            }
-           // item.setCreators(creators);
-
-        }
+        // 1. URL 의 논문 등의 메타데이터를 가져옴 (캐시 미스 시 Zotero Translation Server 호출, 저자 누락 시 사이트별 파서로 보완)
+        log.info("[getUrlData] 메타데이터 조회 시작");
+        ZoteroItem item = citeMetadataService.resolve(url);
+        log.info("[getUrlData] 메타데이터 조회 완료: item_title={}", item.getTitle());
+
         // 2. cslJson 으로 변환
         log.info("[getUrlData] CSL 변환 시작");
         JSONObject cslJson=citeConvertService.toCSL(item);
@@ -123,6 +97,18 @@ public class CiteController {
         return ResponseEntity.ok(citationResponseDTO);
     }
 
+    // 1-4. 저장된 인용 정보로 서버에서 인용문 생성 (styles 여러 개 지정 가능, 예: styles=apa,ieee)
+    @GetMapping("/render/{citeId}")
+    public List<CitationRenderDTO> renderCitation(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                  @PathVariable Long citeId,
+                                                  @RequestParam(defaultValue = "apa") List<String> styles,
+                                                  @RequestParam(defaultValue = "en-US") String locale,
+                                                  @RequestParam(defaultValue = "text") String format) {
+        Member member = userDetails.getMember();
+        CitationResponseDTO cite = citeService.getCiteDetail(member, citeId);
+        return citeRenderService.render(citeId, cite.getCslJson(), styles, locale, format);
+    }
+
     /* ---------- 2. 폴더 ---------- */
 
     // 2-1. 폴더 목록 (page,size optional)
@@ -135,6 +121,16 @@ public class CiteController {
         return citeFolderService.getFolders(memberId, page, size);
     }
 
+    // 2-1-1. 폴더 목록 (커서 기반, 첫 요청은 cursor 생략)
+    @GetMapping("/folders/cursor")
+    public CursorPageDTO<FoldersResponseDTO> getFoldersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        String memberId = SecurityUtil.getCurrentMemberId();
+        return citeFolderService.getFoldersByCursor(memberId, cursor, size);
+    }
+
     // 2-2. 폴더 생성
     @PostMapping("/folders")
     public ResponseEntity<Void> createFolder(@RequestBody UpdateRequestDTO dto) {
@@ -165,14 +161,24 @@ public class CiteController {
 
     // 3-1. 히스토리 목록 (page,size optional)
     @GetMapping("/histories")
-    public Page<HistoriesResponseDTO> getHistories(@RequestParam(required = false) Long folderId,
-                                                   @RequestParam(defaultValue = "0") int page,
-                                                   @RequestParam(defaultValue = "5") int size) {
+    public Page<HistoryListItemDTO> getHistories(@RequestParam(required = false) Long folderId,
+                                                 @RequestParam(defaultValue = "0") int page,
+                                                 @RequestParam(defaultValue = "5") int size) {
 
         String memberId = SecurityUtil.getCurrentMemberId();
         return citeHistoryService.getHistories(memberId, folderId, page, size);
     }
 
+    // 3-1-1. 히스토리 목록 (커서 기반, 첫 요청은 cursor 생략)
+    @GetMapping("/histories/cursor")
+    public CursorPageDTO<HistoryListItemDTO> getHistoriesByCursor(@RequestParam(required = false) Long folderId,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(defaultValue = "5") int size) {
+
+        String memberId = SecurityUtil.getCurrentMemberId();
+        return citeHistoryService.getHistoriesByCursor(memberId, folderId, cursor, size);
+    }
+
     // 3-2. 히스토리 생성
     @PostMapping("/histories")
     public ResponseEntity<Void> createHistory(@RequestParam(required = false) Long folderId,
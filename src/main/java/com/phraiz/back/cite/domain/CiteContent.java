@@ -9,7 +9,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "cite_contents")
+@Table(
+        name = "cite_contents",
+        uniqueConstraints = @UniqueConstraint(name = "uq_cite_contents_history_seq", columnNames = {"history_id", "sequence_number"})
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CiteContent {
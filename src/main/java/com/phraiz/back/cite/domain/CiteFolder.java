@@ -11,7 +11,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "cite_folder")
+@Table(
+        name = "cite_folder",
+        indexes = @Index(name = "idx_cite_folder_cursor", columnList = "member_id, created_at, id") // 커서 기반 목록
+)
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CiteFolder extends BaseFolder {
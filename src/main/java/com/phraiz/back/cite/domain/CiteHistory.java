@@ -12,7 +12,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "cite_history")
+@Table(
+        name = "cite_history",
+        indexes = @Index(name = "idx_cite_history_cursor", columnList = "member_id, folder_id, created_at, id") // 커서 기반 목록
+)
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -32,12 +35,4 @@ public class CiteHistory extends BaseHistory {
     public void addContent(CiteContent content) {
         this.contents.add(content);
     }
-    
-    // 최대 10개로 제한하면서 오래된 content 제거
-    public void limitContentsToTen() {
-        if (this.contents.size() > 10) {
-            List<CiteContent> toRemove = this.contents.subList(10, this.contents.size());
-            toRemove.clear();
-        }
-    }
 }
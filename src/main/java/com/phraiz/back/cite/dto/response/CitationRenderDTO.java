@@ -0,0 +1,9 @@
+package com.phraiz.back.cite.dto.response;
+
+// 서버에서 생성한 인용문 (스타일 하나)
+public record CitationRenderDTO(
+        String style,           // CSL 스타일 이름 (apa, ieee 등)
+        String citation,        // 본문 인용 (예: "(Kim, 2024)")
+        String bibliography     // 참고문헌 항목
+) {
+}
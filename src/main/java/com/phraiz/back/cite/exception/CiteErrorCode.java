@@ -13,6 +13,11 @@ public enum CiteErrorCode implements ErrorCode {
     NO_PERMISSION_TO_UPDATE(403, "CIT002", "인용 수정 권한이 없습니다.", "CITATION"),
     // 인용문 생성 관련 오류 코드 추가
     METADATA_EXTRACTION_FAILED(400, "CIT003", "인용문 메타데이터(저자, 제목 등) 추출에 실패했습니다.", "CITATION"),
+    TRANSLATION_BUSY(503, "CIT007", "인용 정보 조회 요청이 많습니다. 잠시 후 다시 시도해주세요.", "CITATION"),
+    TRANSLATION_SERVER_ERROR(502, "CIT008", "인용 정보 조회 서버 응답 처리 중 오류가 발생했습니다.", "CITATION"),
+    STYLE_NOT_SUPPORTED(400, "CIT009", "지원하지 않는 인용 스타일 또는 형식입니다.", "CITATION"),
+    RENDER_FAILED(500, "CIT010", "인용문 생성 중 오류가 발생했습니다.", "CITATION"),
+    SITE_SCRAPE_FAILED(502, "CIT011", "논문 사이트 정보 조회 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.", "CITATION"),
 
     // 2. 인용 폴더 관련
     FOLDER_NOT_FOUND(404, "CIT002", "존재하지 않는 폴더입니다.", "CITATION"),
@@ -0,0 +1,89 @@
+package com.phraiz.back.cite.parser;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 학술 페이지 공통 citation_* meta 태그(Google Scholar 권장 형식) 읽기
+ * - 셀렉터/정규식은 한 번만 컴파일해서 재사용
+ */
+final class CitationMetaTags {
+
+    private static final Evaluator TITLE = QueryParser.parse("meta[name=citation_title]");
+    private static final Evaluator OG_TITLE = QueryParser.parse("meta[property=og:title]");
+    private static final Evaluator JOURNAL = QueryParser.parse("meta[name=citation_journal_title]");
+    private static final Evaluator DATE = QueryParser.parse(
+            "meta[name=citation_publication_date], meta[name=citation_date], meta[name=citation_year]");
+    private static final Evaluator DOI = QueryParser.parse("meta[name=citation_doi]");
+    private static final Evaluator AUTHOR = QueryParser.parse("meta[name=citation_author]");
+
+    private static final Pattern YEAR = Pattern.compile("(19|20)\\d{2}");
+    private static final Pattern DOI_PREFIX = Pattern.compile("^(?:doi:|https?://(?:dx\\.)?doi\\.org/)", Pattern.CASE_INSENSITIVE);
+
+    private CitationMetaTags() {
+    }
+
+    // 공통 meta 태그로 메타데이터 구성 - 사이트 전용 셀렉터로 찾은 저자가 없으면 citation_author 사용
+    static SiteMetadata read(Document doc, List<String> siteAuthors) {
+        String title = content(doc, TITLE);
+        if (title == null) {
+            title = content(doc, OG_TITLE);
+        }
+        List<String> authors = siteAuthors.isEmpty() ? contents(doc, AUTHOR) : siteAuthors;
+        return new SiteMetadata(title, content(doc, JOURNAL), year(content(doc, DATE)), doi(content(doc, DOI)), authors);
+    }
+
+    static List<String> texts(Document doc, Evaluator evaluator) {
+        List<String> values = new ArrayList<>();
+        for (Element element : doc.select(evaluator)) {
+            String text = element.text().trim();
+            if (!text.isEmpty()) {
+                values.add(text);
+            }
+        }
+        return values;
+    }
+
+    private static String content(Document doc, Evaluator evaluator) {
+        Element element = doc.selectFirst(evaluator);
+        if (element == null) {
+            return null;
+        }
+        String value = element.attr("content").trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> contents(Document doc, Evaluator evaluator) {
+        List<String> values = new ArrayList<>();
+        for (Element element : doc.select(evaluator)) {
+            String value = element.attr("content").trim();
+            if (!value.isEmpty()) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    private static String year(String date) {
+        if (date == null) {
+            return null;
+        }
+        Matcher matcher = YEAR.matcher(date);
+        return matcher.find() ? matcher.group() : null;
+    }
+
+    private static String doi(String value) {
+        if (value == null) {
+            return null;
+        }
+        String doi = DOI_PREFIX.matcher(value).replaceFirst("").trim();
+        return doi.isEmpty() ? null : doi;
+    }
+}
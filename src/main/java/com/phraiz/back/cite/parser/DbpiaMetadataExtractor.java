@@ -0,0 +1,30 @@
+package com.phraiz.back.cite.parser;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+// dbpia - 저자 이름은 <a class="authorName"> 태그
+@Component
+public class DbpiaMetadataExtractor implements SiteMetadataExtractor {
+
+    private static final Evaluator AUTHOR_NAME = QueryParser.parse("a.authorName");
+
+    @Override
+    public String name() {
+        return "dbpia";
+    }
+
+    @Override
+    public Set<String> hosts() {
+        return Set.of("dbpia.co.kr");
+    }
+
+    @Override
+    public SiteMetadata extract(Document doc) {
+        return CitationMetaTags.read(doc, CitationMetaTags.texts(doc, AUTHOR_NAME));
+    }
+}
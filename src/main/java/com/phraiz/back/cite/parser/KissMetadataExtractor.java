@@ -0,0 +1,63 @@
+package com.phraiz.back.cite.parser;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// kiss - 저자 이름은 div.author 태그 안에 "한글이름 ( 영문이름 )" 형태로 나열
+@Component
+public class KissMetadataExtractor implements SiteMetadataExtractor {
+
+    private static final Evaluator AUTHOR = QueryParser.parse("div.author.mb-1");
+    // 예: "백승익 ( Baek Seung-ik )"에서 "백승익"만 추출
+    private static final Pattern KOREAN_NAME = Pattern.compile("([가-힣]+)\\s*\\(");
+    private static final Pattern SEPARATOR = Pattern.compile("[,()]");
+
+    @Override
+    public String name() {
+        return "kiss";
+    }
+
+    @Override
+    public Set<String> hosts() {
+        return Set.of("kiss.kstudy.com");
+    }
+
+    @Override
+    public SiteMetadata extract(Document doc) {
+        return CitationMetaTags.read(doc, authors(doc));
+    }
+
+    private List<String> authors(Document doc) {
+        List<String> authors = new ArrayList<>();
+        Element authorElement = doc.selectFirst(AUTHOR);
+        if (authorElement == null) {
+            return authors;
+        }
+
+        String fullText = authorElement.text();
+        Matcher matcher = KOREAN_NAME.matcher(fullText);
+        while (matcher.find()) {
+            authors.add(matcher.group(1).trim());
+        }
+
+        // 만약 정규 표현식이 실패할 경우 쉼표/괄호로 분리
+        if (authors.isEmpty()) {
+            for (String name : SEPARATOR.split(fullText)) {
+                String cleanName = name.trim();
+                if (!cleanName.isEmpty()) {
+                    authors.add(cleanName);
+                }
+            }
+        }
+        return authors;
+    }
+}
@@ -0,0 +1,27 @@
+package com.phraiz.back.cite.parser;
+
+import org.jsoup.nodes.Document;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+// 교보 스콜라 - 저자를 포함한 모든 항목이 citation_* meta 태그에 있음
+@Component
+public class KyoboMetadataExtractor implements SiteMetadataExtractor {
+
+    @Override
+    public String name() {
+        return "kyobo";
+    }
+
+    @Override
+    public Set<String> hosts() {
+        return Set.of("scholar.kyobobook.co.kr");
+    }
+
+    @Override
+    public SiteMetadata extract(Document doc) {
+        return CitationMetaTags.read(doc, List.of());
+    }
+}
@@ -0,0 +1,29 @@
+package com.phraiz.back.cite.parser;
+
+import com.phraiz.back.cite.dto.response.Creator;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 논문 사이트 페이지에서 추출한 인용 메타데이터 (없는 항목은 null)
+public record SiteMetadata(String title, String journal, String year, String doi, List<String> authors) {
+
+    public static final SiteMetadata EMPTY = new SiteMetadata(null, null, null, null, List.of());
+
+    public SiteMetadata {
+        authors = authors == null ? List.of() : List.copyOf(authors);
+    }
+
+    // 호출할 때마다 새 Creator 목록 생성 (캐시된 값이 수정되지 않도록)
+    public List<Creator> toCreators() {
+        return authors.stream()
+                .map(name -> {
+                    Creator creator = new Creator();
+                    creator.setCreatorType("author");
+                    creator.setFirstName(null);
+                    creator.setLastName(name);  // 한글 이름 전체 저장
+                    return creator;
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,22 @@
+package com.phraiz.back.cite.parser;
+
+import org.jsoup.nodes.Document;
+
+import java.util.Set;
+
+/**
+ * 논문 사이트별 메타데이터 추출기
+ * - 번역 서버가 채우지 못한 항목을 사이트 페이지에서 보완할 때 사용
+ * - 구현체를 빈으로 등록하면 SiteMetadataExtractorRegistry 가 호스트로 찾아줌
+ * - 페이지는 호출부(CiteSiteScraper) 가 한 번만 가져와서 넘겨줌 -> 구현체는 네트워크 호출 금지
+ */
+public interface SiteMetadataExtractor {
+
+    // 설정 키 등에 쓰는 사이트 이름 (cite.scraper.timeout-ms.{name})
+    String name();
+
+    // 처리하는 호스트 (하위 도메인도 포함해서 처리)
+    Set<String> hosts();
+
+    SiteMetadata extract(Document doc);
+}
@@ -0,0 +1,65 @@
+package com.phraiz.back.cite.parser;
+
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 호스트 -> 메타데이터 추출기 조회
+ * - 등록된 호스트를 해시맵에 두고, URL 호스트에서 하위 도메인을 하나씩 떼어가며 조회
+ *   (www.dbpia.co.kr -> dbpia.co.kr)
+ * - 같은 호스트를 두 추출기가 처리하면 기동 시 실패
+ */
+@Component
+public class SiteMetadataExtractorRegistry {
+
+    private final Map<String, SiteMetadataExtractor> byHost = new HashMap<>();
+    private final List<SiteMetadataExtractor> extractors;
+
+    public SiteMetadataExtractorRegistry(List<SiteMetadataExtractor> extractors) {
+        this.extractors = List.copyOf(extractors);
+        for (SiteMetadataExtractor extractor : extractors) {
+            for (String host : extractor.hosts()) {
+                SiteMetadataExtractor previous = byHost.put(host.toLowerCase(Locale.ROOT), extractor);
+                if (previous != null) {
+                    throw new IllegalStateException(String.format(
+                            "호스트 %s 를 처리하는 추출기가 중복됩니다: %s, %s", host, previous.name(), extractor.name()));
+                }
+            }
+        }
+    }
+
+    public Optional<SiteMetadataExtractor> find(String url) {
+        String host;
+        try {
+            host = URI.create(url.trim()).getHost();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (host == null) {
+            return Optional.empty();
+        }
+
+        host = host.toLowerCase(Locale.ROOT);
+        while (true) {
+            SiteMetadataExtractor extractor = byHost.get(host);
+            if (extractor != null) {
+                return Optional.of(extractor);
+            }
+            int dot = host.indexOf('.');
+            if (dot < 0) {
+                return Optional.empty();
+            }
+            host = host.substring(dot + 1);
+        }
+    }
+
+    public List<SiteMetadataExtractor> extractors() {
+        return extractors;
+    }
+}
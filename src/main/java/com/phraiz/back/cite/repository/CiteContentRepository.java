@@ -2,6 +2,7 @@ package com.phraiz.back.cite.repository;
 
 import com.phraiz.back.cite.domain.CiteContent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -26,4 +27,9 @@ public interface CiteContentRepository extends JpaRepository<CiteContent, Long>
      */
     @Query("SELECT MAX(c.sequenceNumber) FROM CiteContent c WHERE c.history.id = :historyId")
     Optional<Integer> findMaxSequenceNumberByHistoryId(@Param("historyId") Long historyId);
+
+    // 최신 N개만 남기고 삭제 - sequenceNumber 가 threshold 이하인 content 를 한 번에 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM CiteContent c WHERE c.history.id = :historyId AND c.sequenceNumber <= :threshold")
+    int deleteUpToSequenceNumber(@Param("historyId") Long historyId, @Param("threshold") int threshold);
 }
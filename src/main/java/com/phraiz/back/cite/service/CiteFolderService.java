@@ -7,9 +7,7 @@ import com.phraiz.back.common.enums.Plan;
 import com.phraiz.back.common.exception.custom.BusinessLogicException;
 import com.phraiz.back.common.repository.BaseFolderRepository;
 import com.phraiz.back.common.service.AbstractFolderService;
-import com.phraiz.back.member.domain.Member;
-import com.phraiz.back.member.exception.MemberErrorCode;
-import com.phraiz.back.member.repository.MemberRepository;
+import com.phraiz.back.member.service.MemberPlanCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,11 +18,11 @@ import java.util.Collections;
 @Transactional
 @Slf4j
 public class CiteFolderService extends AbstractFolderService<CiteFolder> {
-    private final MemberRepository memberRepository;
+    private final MemberPlanCache memberPlanCache;
 
-    protected CiteFolderService(BaseFolderRepository<CiteFolder> repo, MemberRepository memberRepository) {
+    protected CiteFolderService(BaseFolderRepository<CiteFolder> repo, MemberPlanCache memberPlanCache) {
         super(repo);
-        this.memberRepository = memberRepository;
+        this.memberPlanCache = memberPlanCache;
     }
 
     @Override
@@ -51,8 +49,7 @@ public class CiteFolderService extends AbstractFolderService<CiteFolder> {
 
     @Override
     protected void validateCreateFolder(String memberId) {
-        Member member=memberRepository.findById(memberId).orElseThrow(()->new BusinessLogicException(MemberErrorCode.USER_NOT_FOUND));
-        Plan userPlan = Plan.fromId(member.getPlanId());
+        Plan userPlan = memberPlanCache.getPlan(memberId);
         if(userPlan == Plan.FREE){
             throw new BusinessLogicException(CiteErrorCode.PLAN_NOT_ACCESSED);
         }
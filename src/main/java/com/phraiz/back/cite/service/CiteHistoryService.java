@@ -7,56 +7,40 @@ import com.phraiz.back.cite.dto.response.CitationHistoryContentResponseDTO;
 import com.phraiz.back.cite.exception.CiteErrorCode;
 import com.phraiz.back.cite.repository.CiteContentRepository;
 import com.phraiz.back.cite.repository.CiteRepository;
-import com.phraiz.back.common.dto.response.HistoriesResponseDTO;
+import com.phraiz.back.common.domain.BaseHistory;
 import com.phraiz.back.common.dto.response.HistoryMetaDTO;
 import com.phraiz.back.common.enums.Plan;
 import com.phraiz.back.common.exception.custom.BusinessLogicException;
 import com.phraiz.back.common.repository.BaseHistoryRepository;
 import com.phraiz.back.common.service.AbstractHistoryService;
-import com.phraiz.back.member.domain.Member;
-import com.phraiz.back.member.exception.MemberErrorCode;
-import com.phraiz.back.member.repository.MemberRepository;
+import com.phraiz.back.member.service.MemberPlanCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.format.DateTimeFormatter;
-import java.util.Collections;
 
 @Service
 @Transactional
 @Slf4j
 public class CiteHistoryService extends AbstractHistoryService<CiteHistory> {
 
-    private final MemberRepository memberRepository;
+    private final MemberPlanCache memberPlanCache;
     private final CiteRepository citeRepository;
     private final CiteContentRepository citeContentRepository;
 
     private final int MAX_HISTORY_FOR_FREE = 30;
 
     protected CiteHistoryService(BaseHistoryRepository<CiteHistory> repo, 
-                                 MemberRepository memberRepository, 
+                                 MemberPlanCache memberPlanCache, 
                                  CiteRepository citeRepository,
                                  CiteContentRepository citeContentRepository) {
         super(repo);
-        this.memberRepository = memberRepository;
+        this.memberPlanCache = memberPlanCache;
         this.citeRepository = citeRepository;
         this.citeContentRepository = citeContentRepository;
     }
 
-    @Override
-    protected HistoriesResponseDTO toDTO(CiteHistory entity) {
-        HistoriesResponseDTO.Histories historyItem = HistoriesResponseDTO.Histories.builder()
-                .id(entity.getId())
-                .name(entity.getName())
-                .lastUpdate(entity.getLastUpdate())
-                .build();
-
-        return HistoriesResponseDTO.builder()
-                .histories(Collections.singletonList(historyItem))
-                .build();
-    }
-
     @Override
     protected CiteHistory newHistoryEntity(String memberId, Long folderId, String name) {
         return CiteHistory.builder()
@@ -68,9 +52,7 @@ public class CiteHistoryService extends AbstractHistoryService<CiteHistory> {
 
     @Override
     protected void validateRemainingHistoryCount(String memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessLogicException(MemberErrorCode.USER_NOT_FOUND));
-        Plan userPlan = Plan.fromId(member.getPlanId());
+        Plan userPlan = memberPlanCache.getPlan(memberId);
         if(userPlan == Plan.FREE){
             long currentCount = repo.countByMemberId(memberId);
             if (currentCount >= MAX_HISTORY_FOR_FREE) {
@@ -112,10 +94,9 @@ public class CiteHistoryService extends AbstractHistoryService<CiteHistory> {
         CiteHistory history = repo.findByIdAndMemberId(historyId, memberId)
                 .orElseThrow(() -> new BusinessLogicException(CiteErrorCode.HISTORY_NOT_FOUND));
         
-        // 새로운 sequenceNumber 계산 (가장 최근 content의 sequenceNumber + 1)
-        Integer nextSeqNum = citeContentRepository.findMaxSequenceNumberByHistoryId(historyId)
-                .map(max -> max + 1)
-                .orElse(1);
+        // 카운터로 다음 sequenceNumber 발급 후, 최신 MAX_CONTENTS 개를 넘는 오래된 content 를 한 번에 삭제
+        Integer nextSeqNum = allocateSequenceNumber(historyId);
+        citeContentRepository.deleteUpToSequenceNumber(historyId, nextSeqNum - BaseHistory.MAX_CONTENTS);
         
         // content 테이블에 새로운 레코드 추가
         CiteContent newContent = CiteContent.builder()
@@ -126,12 +107,8 @@ public class CiteHistoryService extends AbstractHistoryService<CiteHistory> {
                 .url(url)
                 .build();
         
-        history.addContent(newContent);
         citeContentRepository.save(newContent);
         
-        // 10개로 제한
-        history.limitContentsToTen();
-        
         return nextSeqNum;
     }
 
@@ -153,7 +130,7 @@ public class CiteHistoryService extends AbstractHistoryService<CiteHistory> {
                 .citationText(citationText)
                 .style(style)
                 .url(url)
-                .sequenceNumber(1)
+                .sequenceNumber(allocateSequenceNumber(newHistory.getId()))
                 .build();
         
         newHistory.addContent(firstContent);
@@ -0,0 +1,184 @@
+package com.phraiz.back.cite.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.phraiz.back.cite.dto.response.ZoteroItem;
+import com.phraiz.back.cite.exception.CiteErrorCode;
+import com.phraiz.back.cite.parser.SiteMetadata;
+import com.phraiz.back.common.exception.custom.BusinessLogicException;
+import com.phraiz.back.common.exception.custom.InternalServerException;
+import com.phraiz.back.common.util.HashUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * URL 로 인용 메타데이터(ZoteroItem) 조회 - Zotero Translation Server 앞단 캐시
+ * - 키: 정규화한 URL(CiteUrlCanonicalizer) 의 SHA-256
+ * - 1차: 서버 로컬 Caffeine 캐시, 2차: Redis (긴 TTL, 여러 서버가 공유)
+ * - 메타데이터를 얻지 못한 URL 은 짧은 TTL 로 실패 결과를 캐시
+ *   (METADATA_EXTRACTION_FAILED 만 캐시, 번역 서버 연결 오류/429/5xx, 사이트 수집 실패 같은 일시적인 오류는 캐시하지 않음)
+ * - 번역 결과에 빠진 항목은 논문 사이트 페이지에서 보완 - 페이지는 번역 서버 호출과 동시에 미리 수집
+ *   (CiteSiteScraper, cite.scraper.speculative)
+ * - 캐시 값은 JSON 문자열 - 조회할 때마다 새 객체로 만들어 호출부가 수정해도 캐시에 영향 없음
+ */
+@Slf4j
+@Service
+public class CiteMetadataService {
+
+    private static final String KEY_PREFIX = "cite_meta:";
+    // 실패 결과 표시
+    private static final String NEGATIVE = "!";
+
+    private final CiteTranslationService citeTranslationService;
+    private final CiteSiteScraper citeSiteScraper;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, String> localCache;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final boolean speculativeScrape;
+
+    public CiteMetadataService(CiteTranslationService citeTranslationService,
+                               CiteSiteScraper citeSiteScraper,
+                               StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${cite.metadata-cache.ttl-seconds:2592000}") long ttlSeconds,
+                               @Value("${cite.metadata-cache.negative-ttl-seconds:600}") long negativeTtlSeconds,
+                               @Value("${cite.metadata-cache.local-max-size:10000}") long localMaxSize,
+                               @Value("${cite.metadata-cache.local-ttl-seconds:3600}") long localTtlSeconds,
+                               @Value("${cite.scraper.speculative:true}") boolean speculativeScrape) {
+        this.citeTranslationService = citeTranslationService;
+        this.citeSiteScraper = citeSiteScraper;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.negativeTtl = Duration.ofSeconds(negativeTtlSeconds);
+        this.speculativeScrape = speculativeScrape;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "cite_metadata");
+    }
+
+    public ZoteroItem resolve(String url) {
+        String key = HashUtil.sha256Hex(CiteUrlCanonicalizer.canonicalize(url));
+
+        // 1. 캐시 확인
+        String cached = lookup(key);
+        if (NEGATIVE.equals(cached)) {
+            throw new BusinessLogicException(CiteErrorCode.METADATA_EXTRACTION_FAILED);
+        }
+        if (cached != null) {
+            try {
+                return objectMapper.readValue(cached, ZoteroItem.class);
+            } catch (JsonProcessingException e) {
+                log.warn("[CiteMetadata] 캐시 값 역직렬화 실패 - 다시 조회 key={}", key, e);
+            }
+        }
+
+        // 2. 번역 서버 조회 + 사이트 페이지로 보완
+        //    지원 사이트는 번역을 기다리는 동안 페이지를 미리 수집 (결과는 사용하지 않아도 스크래퍼 캐시에 남음)
+        CompletableFuture<SiteMetadata> prefetched = speculativeScrape ? citeSiteScraper.fetch(url) : null;
+        ZoteroItem item;
+        try {
+            item = citeTranslationService.translateFromUrl(url);
+            fillFromSite(url, item, prefetched);
+        } catch (BusinessLogicException e) {
+            // 번역 서버가 처리하지 못한 URL - 잠시 동안 다시 요청하지 않음
+            if (e.getErrorCode() == CiteErrorCode.METADATA_EXTRACTION_FAILED) {
+                storeRemote(key, NEGATIVE, negativeTtl);
+            }
+            throw e;
+        }
+
+        // 3. 저장
+        try {
+            String json = objectMapper.writeValueAsString(item);
+            localCache.put(key, json);
+            storeRemote(key, json, ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("[CiteMetadata] 캐시 값 직렬화 실패 key={}", key, e);
+        }
+        return item;
+    }
+
+    // 번역 결과에 빠진 항목을 사이트 페이지에서 보완
+    //  - 저자는 필수: 없으면 페이지 수집을 기다리고, 끝내 찾지 못하면 예외
+    //    (페이지에 저자가 없으면 METADATA_EXTRACTION_FAILED, 수집 자체가 실패하면 캐시하지 않는 SITE_SCRAPE_FAILED)
+    //  - 나머지 항목은 미리 수집한 결과가 이미 있을 때만 채움 (기다리지 않음)
+    private void fillFromSite(String url, ZoteroItem item, CompletableFuture<SiteMetadata> prefetched) {
+        boolean missingAuthors = item.getCreators() == null || item.getCreators().isEmpty() ||
+                (item.getCreators().get(0).getLastName() == null && item.getCreators().get(0).getFirstName() == null);
+        if (!missingAuthors && (prefetched == null || !prefetched.isDone())) {
+            return;
+        }
+
+        Optional<SiteMetadata> fetched = citeSiteScraper.await(prefetched != null ? prefetched : citeSiteScraper.fetch(url));
+        if (missingAuthors && fetched.isEmpty()) {
+            throw new InternalServerException(CiteErrorCode.SITE_SCRAPE_FAILED);
+        }
+        SiteMetadata site = fetched.orElse(SiteMetadata.EMPTY);
+        if (missingAuthors) {
+            log.info("[CiteMetadata] metadata author==null");
+            // 저자를 계속 찾지 못하면 예외를 발생
+            if (site.authors().isEmpty()) {
+                throw new BusinessLogicException(CiteErrorCode.METADATA_EXTRACTION_FAILED);
+            }
+            item.setCreators(site.toCreators());
+        }
+        if (isBlank(item.getTitle())) {
+            item.setTitle(site.title());
+        }
+        if (isBlank(item.getPublicationTitle())) {
+            item.setPublicationTitle(site.journal());
+        }
+        if (isBlank(item.getDate())) {
+            item.setDate(site.year());
+        }
+        if (isBlank(item.getDOI())) {
+            item.setDOI(site.doi());
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private String lookup(String key) {
+        String value = localCache.getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        try {
+            value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        } catch (Exception e) {
+            log.warn("[CiteMetadata] Redis 조회 실패 - 캐시 미스로 처리", e);
+            return null;
+        }
+        if (value != null && !NEGATIVE.equals(value)) {
+            localCache.put(key, value);
+        }
+        return value;
+    }
+
+    private void storeRemote(String key, String value, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, value, ttl);
+        } catch (Exception e) {
+            log.warn("[CiteMetadata] Redis 저장 실패", e);
+        }
+    }
+}
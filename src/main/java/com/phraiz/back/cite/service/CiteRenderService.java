@@ -0,0 +1,217 @@
+package com.phraiz.back.cite.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.phraiz.back.cite.dto.response.CitationRenderDTO;
+import com.phraiz.back.cite.exception.CiteErrorCode;
+import com.phraiz.back.common.exception.GlobalErrorCode;
+import com.phraiz.back.common.exception.custom.BusinessLogicException;
+import com.phraiz.back.common.exception.custom.InternalServerException;
+import de.undercouch.citeproc.CSL;
+import de.undercouch.citeproc.ItemDataProvider;
+import de.undercouch.citeproc.csl.CSLItemData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.regex.Pattern;
+
+/**
+ * 저장된 CSL JSON(Cite.cslJson) 으로 인용문/참고문헌 생성 (citeproc-java)
+ * - citeproc 인스턴스는 스타일/로케일 XML 을 파싱해서 만들기 때문에 비쌈
+ *   -> (스타일, 로케일, 형식) 별로 쓰고 난 인스턴스를 풀에 보관해서 재사용
+ * - 인스턴스는 한 번에 한 스레드만 사용 (풀에서 꺼내 쓰고 reset + 출력 형식 재지정 후 반납)
+ * - 스타일 XML 은 classpath(org.citationstyles:styles) 에서 한 번만 읽어 캐시
+ */
+@Slf4j
+@Service
+public class CiteRenderService {
+
+    private static final Set<String> FORMATS = Set.of("text", "html", "rtf", "asciidoc", "fo");
+    // classpath 경로로 쓰이므로 이름 형식 제한
+    private static final Pattern STYLE_NAME = Pattern.compile("[a-z0-9]+(-[a-z0-9]+)*");
+    private static final Pattern LOCALE = Pattern.compile("[a-z]{2,3}(-[A-Z]{2})?");
+
+    private final ObjectMapper objectMapper;
+    private final int maxStylesPerRequest;
+    private final int maxIdlePerKey;
+    private final Cache<String, String> styleCache;
+    private final Cache<PoolKey, BlockingQueue<Processor>> pools;
+    private final Counter createdCounter;
+
+    private record PoolKey(String style, String locale, String format) {
+    }
+
+    private record Processor(CSL csl, SwappableItemDataProvider items) {
+    }
+
+    // 풀에 있는 citeproc 인스턴스가 렌더링할 때마다 다른 항목을 보도록 교체 가능한 provider
+    private static final class SwappableItemDataProvider implements ItemDataProvider {
+        private Map<String, CSLItemData> items = Map.of();
+
+        void set(List<CSLItemData> data) {
+            Map<String, CSLItemData> map = new LinkedHashMap<>();
+            data.forEach(item -> map.put(item.getId(), item));
+            this.items = map;
+        }
+
+        void clear() {
+            this.items = Map.of();
+        }
+
+        @Override
+        public CSLItemData retrieveItem(String id) {
+            return items.get(id);
+        }
+
+        @Override
+        public Collection<String> getIds() {
+            return items.keySet();
+        }
+    }
+
+    public CiteRenderService(ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${cite.render.max-styles-per-request:10}") int maxStylesPerRequest,
+                             @Value("${cite.render.style-cache.max-size:256}") long styleCacheMaxSize,
+                             @Value("${cite.render.pool.max-keys:64}") long poolMaxKeys,
+                             @Value("${cite.render.pool.max-idle-per-key:4}") int maxIdlePerKey) {
+        this.objectMapper = objectMapper;
+        this.maxStylesPerRequest = maxStylesPerRequest;
+        this.maxIdlePerKey = maxIdlePerKey;
+        this.styleCache = Caffeine.newBuilder()
+                .maximumSize(styleCacheMaxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, styleCache, "csl_styles");
+        // 자주 쓰지 않는 조합의 풀은 통째로 제거
+        this.pools = Caffeine.newBuilder()
+                .maximumSize(poolMaxKeys)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pools, "csl_processor_pools");
+        this.createdCounter = Counter.builder("cite.render.processor.created")
+                .register(meterRegistry);
+    }
+
+    // 인용 항목 하나를 요청한 스타일마다 생성
+    public List<CitationRenderDTO> render(Long citeId, String cslJson, List<String> styles, String locale, String format) {
+        // 1. 입력 검증
+        List<String> distinctStyles = styles.stream().map(String::trim).distinct().toList();
+        if (distinctStyles.isEmpty() || distinctStyles.size() > maxStylesPerRequest) {
+            throw new BusinessLogicException(GlobalErrorCode.INVALID_INPUT_VALUE,
+                    String.format("스타일은 1개 이상 %d개 이하로 요청해주세요.", maxStylesPerRequest));
+        }
+        if (!FORMATS.contains(format) || !LOCALE.matcher(locale).matches()
+                || CiteRenderService.class.getResource("/locales-" + locale + ".xml") == null) {
+            throw new BusinessLogicException(CiteErrorCode.STYLE_NOT_SUPPORTED,
+                    String.format("locale=%s, format=%s", locale, format));
+        }
+
+        // 2. CSL JSON -> citeproc 항목 (스타일마다 다시 파싱하지 않음)
+        List<CSLItemData> items = List.of(toItemData(citeId, cslJson));
+
+        // 3. 스타일별 생성
+        return renderItems(items, distinctStyles, locale, format);
+    }
+
+    // 검증이 끝난 항목/스타일로 생성 (테스트에서 항목을 직접 넣을 수 있도록 package-private)
+    List<CitationRenderDTO> renderItems(List<CSLItemData> items, List<String> styles, String locale, String format) {
+        List<CitationRenderDTO> result = new ArrayList<>(styles.size());
+        for (String style : styles) {
+            result.add(renderStyle(new PoolKey(style, locale, format), items));
+        }
+        return result;
+    }
+
+    private CitationRenderDTO renderStyle(PoolKey key, List<CSLItemData> items) {
+        // 없는 스타일로 풀 자리를 차지하지 않도록 스타일부터 확인
+        String styleXml = styleCache.get(key.style(), this::loadStyle);
+        BlockingQueue<Processor> idle = pools.get(key, k -> new ArrayBlockingQueue<>(maxIdlePerKey));
+        Processor processor = idle.poll();
+        if (processor == null) {
+            processor = create(key, styleXml);
+        }
+
+        boolean reusable = false;
+        try {
+            processor.items().set(items);
+            String[] ids = items.stream().map(CSLItemData::getId).toArray(String[]::new);
+            CSL csl = processor.csl();
+            csl.registerCitationItems(ids);
+            String citation = csl.makeCitation(ids).get(0).getText();
+            String bibliography = csl.makeBibliography().makeString();
+            // reset 은 출력 형식도 기본값(html)으로 되돌리므로 풀 키의 형식을 다시 지정
+            csl.reset();
+            csl.setOutputFormat(key.format());
+            reusable = true;
+            return new CitationRenderDTO(key.style(), citation, bibliography);
+        } catch (RuntimeException e) {
+            log.warn("[CiteRender] 인용문 생성 실패 style={}", key.style(), e);
+            throw new InternalServerException(CiteErrorCode.RENDER_FAILED, e);
+        } finally {
+            processor.items().clear();
+            // 실패한 인스턴스는 상태를 알 수 없으므로 버림, 풀이 가득 차 있어도 버림
+            if (reusable) {
+                idle.offer(processor);
+            }
+        }
+    }
+
+    private Processor create(PoolKey key, String styleXml) {
+        SwappableItemDataProvider items = new SwappableItemDataProvider();
+        try {
+            CSL csl = new CSL(items, styleXml, key.locale());
+            csl.setOutputFormat(key.format());
+            createdCounter.increment();
+            return new Processor(csl, items);
+        } catch (IOException | RuntimeException e) {
+            log.warn("[CiteRender] citeproc 인스턴스 생성 실패 {}", key, e);
+            throw new InternalServerException(CiteErrorCode.RENDER_FAILED, e);
+        }
+    }
+
+    // 없는 스타일은 예외 (캐시하지 않음)
+    private String loadStyle(String style) {
+        if (!STYLE_NAME.matcher(style).matches()) {
+            throw new BusinessLogicException(CiteErrorCode.STYLE_NOT_SUPPORTED, String.format("style=%s", style));
+        }
+        try (InputStream in = CiteRenderService.class.getResourceAsStream("/" + style + ".csl")) {
+            if (in == null) {
+                throw new BusinessLogicException(CiteErrorCode.STYLE_NOT_SUPPORTED, String.format("style=%s", style));
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new InternalServerException(CiteErrorCode.RENDER_FAILED, e);
+        }
+    }
+
+    private CSLItemData toItemData(Long citeId, String cslJson) {
+        try {
+            Map<String, Object> json = objectMapper.readValue(cslJson, new TypeReference<Map<String, Object>>() {});
+            // 저장된 id 대신 cite 식별자 사용 (여러 항목을 함께 생성해도 겹치지 않도록)
+            json.put("id", String.valueOf(citeId));
+            return CSLItemData.fromJson(json);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[CiteRender] CSL JSON 변환 실패 citeId={}", citeId, e);
+            throw new InternalServerException(CiteErrorCode.RENDER_FAILED, e);
+        }
+    }
+}
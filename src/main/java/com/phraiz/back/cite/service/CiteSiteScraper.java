@@ -0,0 +1,161 @@
+package com.phraiz.back.cite.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.phraiz.back.cite.parser.SiteMetadata;
+import com.phraiz.back.cite.parser.SiteMetadataExtractor;
+import com.phraiz.back.cite.parser.SiteMetadataExtractorRegistry;
+import com.phraiz.back.common.util.HashUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpResponseException;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.util.Timeout;
+import org.jsoup.Jsoup;
+import org.jsoup.helper.HttpConnection;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 번역 결과에 빠진 항목(저자 등)을 논문 사이트 페이지에서 보완
+ * - 사이트별 추출은 SiteMetadataExtractor 구현체가 담당 (SiteMetadataExtractorRegistry 로 조회)
+ * - citeScraperExecutor 에서 비동기로 수집 -> 번역 서버 호출과 동시에 시작할 수 있음
+ * - 전용 커넥션 풀(HttpClientConfig) 을 재사용하고, 응답 본문은 스트림에서 바로 파싱
+ * - 사이트별 최대 수집 시간(cite.scraper.timeout-ms.{name}) 을 넘기면 보완 없이 진행
+ * - 추출 결과는 정규화한 URL 기준으로 로컬 캐시 (아무것도 못 찾은 페이지도 캐시)
+ * - 수집 실패(시간 초과, 연결/응답 오류, 스레드 풀 포화) 는 아무것도 못 찾은 페이지(EMPTY) 와 구분
+ *   -> 호출부가 일시적인 실패를 "메타데이터 없음" 으로 확정하지 않도록
+ */
+@Slf4j
+@Service
+public class CiteSiteScraper {
+
+    private final SiteMetadataExtractorRegistry registry;
+    private final CloseableHttpClient httpClient;
+    private final Executor executor;
+    private final Map<String, Duration> timeouts = new HashMap<>();
+    private final Timeout poolWaitTimeout;
+    private final Cache<String, SiteMetadata> cache;
+
+    public CiteSiteScraper(SiteMetadataExtractorRegistry registry,
+                           @Qualifier("citeScraperHttpClient") CloseableHttpClient httpClient,
+                           @Qualifier("citeScraperExecutor") Executor executor,
+                           MeterRegistry meterRegistry,
+                           Environment environment,
+                           @Value("${cite.scraper.default-timeout-ms:4000}") long defaultTimeoutMs,
+                           @Value("${cite.scraper.http.pool-wait-timeout-ms:1000}") long poolWaitTimeoutMs,
+                           @Value("${cite.scraper.cache.max-size:10000}") long cacheMaxSize,
+                           @Value("${cite.scraper.cache.ttl-seconds:86400}") long cacheTtlSeconds) {
+        this.registry = registry;
+        this.httpClient = httpClient;
+        this.executor = executor;
+        // 추출기마다 설정 키가 달라서 @Value 대신 이름으로 조회
+        for (SiteMetadataExtractor extractor : registry.extractors()) {
+            long timeoutMs = environment.getProperty(
+                    "cite.scraper.timeout-ms." + extractor.name(), Long.class, defaultTimeoutMs);
+            timeouts.put(extractor.name(), Duration.ofMillis(timeoutMs));
+        }
+        this.poolWaitTimeout = Timeout.ofMilliseconds(poolWaitTimeoutMs);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "cite_site_metadata");
+    }
+
+    // 수집 시작 - 지원하지 않는 사이트는 EMPTY 로 완료, 수집 요청이 거절되면 예외로 완료
+    public CompletableFuture<SiteMetadata> fetch(String url) {
+        SiteMetadataExtractor extractor = registry.find(url).orElse(null);
+        if (extractor == null) {
+            return CompletableFuture.completedFuture(SiteMetadata.EMPTY);
+        }
+
+        // 1. 캐시 확인
+        String key = HashUtil.sha256Hex(CiteUrlCanonicalizer.canonicalize(url));
+        SiteMetadata cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        // 2. 비동기 수집 (사이트별 최대 시간)
+        Duration timeout = timeouts.get(extractor.name());
+        try {
+            return CompletableFuture.supplyAsync(() -> scrape(extractor, url, key, timeout), executor)
+                    .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.warn("[CiteScraper] 수집 요청 거절 (스레드 풀 포화) site={}", extractor.name());
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // 수집 결과 대기 - 실패/시간 초과는 Optional.empty() (페이지에서 아무것도 못 찾은 경우는 EMPTY)
+    public Optional<SiteMetadata> await(CompletableFuture<SiteMetadata> future) {
+        try {
+            return Optional.of(future.join());
+        } catch (CompletionException | CancellationException e) {
+            log.warn("[CiteScraper] 사이트 메타데이터 수집 실패: {}", e.getCause() != null ? e.getCause().toString() : e.toString());
+            return Optional.empty();
+        }
+    }
+
+    private SiteMetadata scrape(SiteMetadataExtractor extractor, String url, String key, Duration timeout) {
+        HttpGet request = new HttpGet(url);
+        // 기존 Jsoup.connect 와 같은 브라우저 User-Agent 사용 (기본 값이면 차단하는 사이트가 있음)
+        request.setHeader(HttpHeaders.USER_AGENT, HttpConnection.DEFAULT_UA);
+        request.setConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(poolWaitTimeout)
+                .setResponseTimeout(Timeout.of(timeout))
+                .build());
+
+        Document doc;
+        try {
+            doc = httpClient.execute(request, response -> {
+                if (response.getCode() != HttpStatus.SC_OK) {
+                    throw new HttpResponseException(response.getCode(), response.getReasonPhrase());
+                }
+                HttpEntity entity = response.getEntity();
+                if (entity == null) {
+                    throw new HttpResponseException(response.getCode(), "empty body");
+                }
+                // 응답 헤더에 charset 이 없으면 Jsoup 이 meta 태그로 판별
+                ContentType contentType = ContentType.parseLenient(entity.getContentType());
+                Charset charset = contentType != null ? contentType.getCharset() : null;
+                try (InputStream in = entity.getContent()) {
+                    return Jsoup.parse(in, charset != null ? charset.name() : null, url);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        SiteMetadata metadata = extractor.extract(doc);
+        cache.put(key, metadata);
+        return metadata;
+    }
+}
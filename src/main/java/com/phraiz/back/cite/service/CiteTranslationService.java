@@ -1,30 +1,90 @@
 package com.phraiz.back.cite.service;
 
 import com.phraiz.back.cite.dto.response.ZoteroItem;
+import com.phraiz.back.cite.exception.CiteErrorCode;
+import com.phraiz.back.common.exception.custom.BusinessLogicException;
+import com.phraiz.back.common.exception.custom.InternalServerException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Zotero Translation Server 호출
+ * - 전용 커넥션 풀/타임아웃이 적용된 RestTemplate 사용 (HttpClientConfig)
+ * - 번역 서버는 Node 사이드카 한 대라서 동시 요청 수를 제한 (bulkhead)
+ *   자리가 날 때까지 acquire-timeout 만큼만 기다리고, 넘으면 503
+ * - 대기 시간 / 처리 중 / 대기 중 요청 수 / 거절 수를 메트릭으로 기록
+ * - 오류 응답 구분: URL 자체를 처리할 수 없는 응답(400/404/415)만 메타데이터 추출 실패(BusinessLogicException),
+ *   429/5xx 등은 일시적인 오류(InternalServerException) -> 호출부가 실패 결과를 캐시하지 않도록
+ */
+@Slf4j
 @Service
 public class CiteTranslationService {
-    @Value("${zotero.url}")
-    private String zoteroUrl;
+
+    // 번역 서버가 URL 을 처리할 수 없다고 확정한 응답
+    private static final Set<HttpStatus> NOT_RESOLVABLE = Set.of(
+            HttpStatus.BAD_REQUEST, HttpStatus.NOT_FOUND, HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+
     private final RestTemplate restTemplate;
+    private final String zoteroUrl;
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public CiteTranslationService(@Qualifier("zoteroRestTemplate") RestTemplate restTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${zotero.url}") String zoteroUrl,
+                                  @Value("${zotero.concurrency.max:4}") int maxConcurrency,
+                                  @Value("${zotero.concurrency.acquire-timeout-ms:3000}") long acquireTimeoutMs) {
+        this.restTemplate = restTemplate;
+        this.zoteroUrl = zoteroUrl;
+        // 먼저 기다린 요청부터 처리
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+
+        this.queueWaitTimer = Timer.builder("zotero.translation.queue.wait")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("zotero.translation.rejected")
+                .register(meterRegistry);
+        Gauge.builder("zotero.translation.inflight", permits, s -> maxConcurrency - s.availablePermits())
+                .register(meterRegistry);
+        Gauge.builder("zotero.translation.queued", permits, Semaphore::getQueueLength)
+                .register(meterRegistry);
+    }
 
-   public CiteTranslationService() {
-       this.restTemplate = new RestTemplate();
-   }
     public ZoteroItem translateFromUrl(String url) {
-        String zoteroUrl = "http://translation-server:1969/web";
+        // 1. 동시 요청 한도 내에서만 번역 서버 호출
+        acquire();
+        try {
+            return translate(url);
+        } finally {
+            permits.release();
+        }
+    }
 
+    private ZoteroItem translate(String url) {
         // 요청 헤더 구성
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -36,22 +96,48 @@ public class CiteTranslationService {
 
         HttpEntity<Map<String,String>> entity = new HttpEntity<>(body, headers);
 
-        // zoterUrl에 POST로 요청 보내고 응답 받음
-        ResponseEntity<ZoteroItem[]> response = restTemplate.postForEntity(zoteroUrl, entity, ZoteroItem[].class);
+        // 2. zoteroUrl 에 POST 로 요청 보내고 응답 받음
+        //    연결 실패/응답 타임아웃은 URL 문제가 아니므로 메타데이터 추출 실패와 구분
+        ResponseEntity<ZoteroItem[]> response;
+        try {
+            response = restTemplate.postForEntity(zoteroUrl, entity, ZoteroItem[].class);
+        } catch (ResourceAccessException e) {
+            log.warn("[Zotero] translation-server 호출 실패 url={}", url, e);
+            throw new InternalServerException(CiteErrorCode.TRANSLATION_SERVER_ERROR, e);
+        } catch (HttpStatusCodeException e) {
+            if (NOT_RESOLVABLE.contains(HttpStatus.resolve(e.getStatusCode().value()))) {
+                log.info("[Zotero] translation-server 가 처리할 수 없는 URL status={} url={}", e.getStatusCode(), url);
+                throw new BusinessLogicException(CiteErrorCode.METADATA_EXTRACTION_FAILED);
+            }
+            log.warn("[Zotero] translation-server 오류 응답 status={} url={}", e.getStatusCode(), url);
+            throw new InternalServerException(e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()
+                    ? CiteErrorCode.TRANSLATION_BUSY
+                    : CiteErrorCode.TRANSLATION_SERVER_ERROR, e);
+        }
 
         ZoteroItem[] items = response.getBody();
         if (items != null && items.length > 0) {
             return items[0]; // 첫 번째 item 반환
         } else {
-            throw new RuntimeException("Zotero translation failed or returned empty result.");
+            // 번역 결과 없음 - 메타데이터 추출 실패로 처리
+            throw new BusinessLogicException(CiteErrorCode.METADATA_EXTRACTION_FAILED);
         }
+    }
 
-        //Map<String, String> body = Map.of("url", url);
-        //HttpEntity<Map<String, String>> request = new HttpEntity<>(body, headers);
-
-        //ResponseEntity<ZoteroItem[]> response = restTemplate.postForEntity(endpoint, request, ZoteroItem[].class);
+    private void acquire() {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        queueWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 
-        //return response.getBody()[0]; // 첫 번째 아이템만 사용
+        if (!acquired) {
+            rejectedCounter.increment();
+            throw new InternalServerException(CiteErrorCode.TRANSLATION_BUSY);
+        }
     }
-
 }
@@ -0,0 +1,84 @@
+package com.phraiz.back.cite.service;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 인용 URL 정규화 - 같은 논문을 가리키는 URL 을 같은 캐시 키로 모음
+ * - DOI 가 들어 있으면 "doi:{소문자 DOI}"
+ * - 아니면 scheme/host 정규화(https, 소문자, www 제거, 기본 포트 제거), 추적 파라미터/fragment 제거, 파라미터 정렬
+ */
+final class CiteUrlCanonicalizer {
+
+    private static final Pattern DOI = Pattern.compile("\\b(10\\.\\d{4,9}/[^\\s?#&\"'<>]+)");
+    private static final Pattern JSESSIONID = Pattern.compile("(?i);jsessionid=[^/?#]*");
+    private static final Set<String> TRACKING_PARAMS = Set.of(
+            "fbclid", "gclid", "dclid", "msclkid", "igshid", "mc_cid", "mc_eid", "_ga", "_gl", "jsessionid");
+
+    private CiteUrlCanonicalizer() {
+    }
+
+    static String canonicalize(String url) {
+        String trimmed = url.trim();
+
+        // 1. DOI - 출판사/doi.org 등 어느 주소로 들어와도 같은 키
+        Matcher doi = DOI.matcher(decodeOrRaw(trimmed));
+        if (doi.find()) {
+            return "doi:" + doi.group(1).replaceAll("[.,;)]+$", "").toLowerCase(Locale.ROOT);
+        }
+
+        // 2. 일반 URL
+        URI uri;
+        try {
+            uri = new URI(trimmed);
+        } catch (URISyntaxException e) {
+            return trimmed;
+        }
+        if (uri.getHost() == null) {
+            return trimmed;
+        }
+
+        String host = uri.getHost().toLowerCase(Locale.ROOT);
+        if (host.startsWith("www.")) {
+            host = host.substring(4);
+        }
+        int port = uri.getPort();
+        String portPart = (port == -1 || port == 80 || port == 443) ? "" : ":" + port;
+
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        path = JSESSIONID.matcher(path).replaceAll("");
+        if (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+
+        String query = uri.getRawQuery() == null ? "" : Arrays.stream(uri.getRawQuery().split("&"))
+                .filter(param -> !param.isEmpty() && !isTrackingParam(param))
+                .sorted()
+                .collect(Collectors.joining("&"));
+
+        return "https://" + host + portPart + path + (query.isEmpty() ? "" : "?" + query);
+    }
+
+    // 잘못된 퍼센트 인코딩("100%", "%zz")이면 디코딩하지 않은 원문으로 DOI 를 찾음
+    private static String decodeOrRaw(String url) {
+        try {
+            return URLDecoder.decode(url.replace("+", "%2B"), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    private static boolean isTrackingParam(String param) {
+        int eq = param.indexOf('=');
+        String name = (eq < 0 ? param : param.substring(0, eq)).toLowerCase(Locale.ROOT);
+        return name.startsWith("utm_") || TRACKING_PARAMS.contains(name);
+    }
+}
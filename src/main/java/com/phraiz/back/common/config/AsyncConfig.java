@@ -0,0 +1,111 @@
+package com.phraiz.back.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // 동시에 실행 가능한 OpenAI 호출 수 (LlmExecutionService 의 전역 제한과 동일하게 맞춤)
+    @Value("${openai.concurrency.global:64}")
+    private int globalLimit;
+
+    // 긴 문서 부분 요약(map) 전용 스레드 풀 크기
+    @Value("${summary.long-document.executor-size:16}")
+    private int chunkExecutorSize;
+
+    // PDF 텍스트 추출 스레드 수 (0 이면 CPU 코어 수)
+    @Value("${summary.pdf.parallelism:0}")
+    private int pdfParallelism;
+
+    // PDF 추출 대기열 크기 (가득 차면 업로드 거절)
+    @Value("${summary.pdf.queue-capacity:32}")
+    private int pdfQueueCapacity;
+
+    // 이메일 발송 worker 수 (동시에 열리는 SMTP 연결 수)
+    @Value("${email.outbox.workers:2}")
+    private int mailWorkers;
+
+    // 인용 메타데이터 보완용 페이지 수집 스레드 수
+    @Value("${cite.scraper.workers:8}")
+    private int citeScraperWorkers;
+
+    // OpenAI 호출(스트리밍 포함) 전용 스레드 풀 - 톰캣 요청 스레드와 분리
+    // - 동시 실행 수는 LlmExecutionService 가 제출 시점에 제한하므로 큐에 쌓이지 않고 바로 실행됨
+    @Bean(name = "llmExecutor")
+    public ThreadPoolTaskExecutor llmExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(globalLimit);
+        executor.setMaxPoolSize(globalLimit);
+        executor.setQueueCapacity(globalLimit);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("llm-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 긴 문서 부분 요약 전용 스레드 풀
+    // - llmExecutor 작업 안에서 조각들을 병렬 실행하므로 같은 풀을 쓰면 서로 기다리다 고갈될 수 있어 분리
+    // - 동시 실행 수는 LlmExecutionService 가 제출 시점에 제한하므로 큐는 작게 둠
+    @Bean(name = "llmChunkExecutor")
+    public ThreadPoolTaskExecutor llmChunkExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(chunkExecutorSize);
+        executor.setMaxPoolSize(chunkExecutorSize);
+        executor.setQueueCapacity(chunkExecutorSize);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("llm-chunk-");
+        executor.initialize();
+        return executor;
+    }
+
+    // PDF 텍스트 추출 전용 스레드 풀 - 문서 하나를 한 스레드가 추출, CPU 작업이므로 코어 수만큼만 실행
+    // - 대기열이 가득 차면 거절 (업로드 임시 파일이 끝없이 쌓이지 않도록) -> PdfTextExtractor 가 429 로 응답
+    @Bean(name = "pdfExecutor")
+    public ThreadPoolTaskExecutor pdfExecutor() {
+        int size = pdfParallelism > 0 ? pdfParallelism : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(pdfQueueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("pdf-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 이메일 발송 전용 스레드 풀 - 발송 batch 수는 EmailOutboxDispatcher 가 worker 수로 제한
+    // - batch 작업(worker 수) + 깨우기 작업(1)이 동시에 실행될 수 있도록 하나 더 둠
+    @Bean(name = "mailExecutor")
+    public ThreadPoolTaskExecutor mailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mailWorkers + 1);
+        executor.setMaxPoolSize(mailWorkers + 1);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("mail-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 인용 메타데이터 보완용 논문 페이지 수집 전용 스레드 풀 - 번역 서버 호출과 동시에 페이지를 가져옴
+    // - 큐가 가득 차면 거절하고, 호출부(CiteSiteScraper)는 보완 없이 진행
+    @Bean(name = "citeScraperExecutor")
+    public ThreadPoolTaskExecutor citeScraperExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(citeScraperWorkers);
+        executor.setMaxPoolSize(citeScraperWorkers);
+        executor.setQueueCapacity(citeScraperWorkers * 4);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("cite-scraper-");
+        executor.initialize();
+        return executor;
+    }
+}
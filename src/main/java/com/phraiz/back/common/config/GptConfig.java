@@ -34,6 +34,10 @@ public class GptConfig {
     @Value("${openai.max-tokens}")
     private Integer maxTokens;
 
+    // 결과 캐시 적중 시에도 월 토큰 사용량에 반영할지 여부
+    @Value("${openai.cache.charge-on-hit:true}")
+    private boolean cacheChargeOnHit;
+
 //    @Bean
 //    public HttpHeaders httpHeaders() {
 //        HttpHeaders headers = new HttpHeaders();
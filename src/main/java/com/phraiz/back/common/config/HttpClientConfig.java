@@ -0,0 +1,178 @@
+package com.phraiz.back.common.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 외부 API 호출용 HTTP 클라이언트 설정
+ * - 호출 대상별로 커넥션 풀을 분리해서 한 쪽이 느려져도 다른 쪽 커넥션까지 잡아먹지 않도록 함
+ * - 연결/응답/풀 대기 타임아웃을 모두 걸어서 업스트림이 멈춰도 요청 스레드가 무한정 묶이지 않음
+ */
+@Configuration
+public class HttpClientConfig {
+
+    // OpenAI 커넥션 풀 설정
+    @Value("${openai.http.max-total:50}")
+    private int openAIMaxTotal;
+
+    @Value("${openai.http.max-per-route:50}")
+    private int openAIMaxPerRoute;
+
+    @Value("${openai.http.connect-timeout-ms:3000}")
+    private long openAIConnectTimeoutMs;
+
+    @Value("${openai.http.response-timeout-ms:60000}")
+    private long openAIResponseTimeoutMs;
+
+    @Value("${openai.http.pool-wait-timeout-ms:2000}")
+    private long openAIPoolWaitTimeoutMs;
+
+    @Value("${openai.http.keep-alive-ms:30000}")
+    private long openAIKeepAliveMs;
+
+    @Value("${openai.http.idle-evict-ms:60000}")
+    private long openAIIdleEvictMs;
+
+    // Zotero Translation Server 커넥션 풀 설정 (사이드카 한 대만 호출)
+    @Value("${zotero.http.max-total:8}")
+    private int zoteroMaxTotal;
+
+    @Value("${zotero.http.max-per-route:8}")
+    private int zoteroMaxPerRoute;
+
+    @Value("${zotero.http.connect-timeout-ms:1000}")
+    private long zoteroConnectTimeoutMs;
+
+    @Value("${zotero.http.response-timeout-ms:15000}")
+    private long zoteroResponseTimeoutMs;
+
+    @Value("${zotero.http.pool-wait-timeout-ms:1000}")
+    private long zoteroPoolWaitTimeoutMs;
+
+    @Value("${zotero.http.keep-alive-ms:30000}")
+    private long zoteroKeepAliveMs;
+
+    @Value("${zotero.http.idle-evict-ms:60000}")
+    private long zoteroIdleEvictMs;
+
+    // 인용 메타데이터 보완용 논문 사이트(dbpia, kiss, 교보 스콜라) 커넥션 풀 설정
+    @Value("${cite.scraper.http.max-total:24}")
+    private int citeScraperMaxTotal;
+
+    @Value("${cite.scraper.http.max-per-route:8}")
+    private int citeScraperMaxPerRoute;
+
+    @Value("${cite.scraper.http.connect-timeout-ms:2000}")
+    private long citeScraperConnectTimeoutMs;
+
+    @Value("${cite.scraper.http.response-timeout-ms:5000}")
+    private long citeScraperResponseTimeoutMs;
+
+    @Value("${cite.scraper.http.pool-wait-timeout-ms:1000}")
+    private long citeScraperPoolWaitTimeoutMs;
+
+    @Value("${cite.scraper.http.keep-alive-ms:30000}")
+    private long citeScraperKeepAliveMs;
+
+    @Value("${cite.scraper.http.idle-evict-ms:60000}")
+    private long citeScraperIdleEvictMs;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager openAIConnectionManager(MeterRegistry meterRegistry) {
+        return pooledConnectionManager(meterRegistry, "openai",
+                openAIMaxTotal, openAIMaxPerRoute, openAIConnectTimeoutMs, openAIResponseTimeoutMs);
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient openAIHttpClient(
+            @Qualifier("openAIConnectionManager") PoolingHttpClientConnectionManager connectionManager) {
+        return pooledHttpClient(connectionManager,
+                openAIResponseTimeoutMs, openAIPoolWaitTimeoutMs, openAIKeepAliveMs, openAIIdleEvictMs);
+    }
+
+    @Bean
+    public RestTemplate openAIRestTemplate(@Qualifier("openAIHttpClient") CloseableHttpClient httpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager zoteroConnectionManager(MeterRegistry meterRegistry) {
+        return pooledConnectionManager(meterRegistry, "zotero",
+                zoteroMaxTotal, zoteroMaxPerRoute, zoteroConnectTimeoutMs, zoteroResponseTimeoutMs);
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient zoteroHttpClient(
+            @Qualifier("zoteroConnectionManager") PoolingHttpClientConnectionManager connectionManager) {
+        return pooledHttpClient(connectionManager,
+                zoteroResponseTimeoutMs, zoteroPoolWaitTimeoutMs, zoteroKeepAliveMs, zoteroIdleEvictMs);
+    }
+
+    @Bean
+    public RestTemplate zoteroRestTemplate(@Qualifier("zoteroHttpClient") CloseableHttpClient httpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager citeScraperConnectionManager(MeterRegistry meterRegistry) {
+        return pooledConnectionManager(meterRegistry, "cite-scraper",
+                citeScraperMaxTotal, citeScraperMaxPerRoute, citeScraperConnectTimeoutMs, citeScraperResponseTimeoutMs);
+    }
+
+    // 응답 본문을 스트림으로 바로 파싱하므로 RestTemplate 없이 HttpClient 를 그대로 사용
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient citeScraperHttpClient(
+            @Qualifier("citeScraperConnectionManager") PoolingHttpClientConnectionManager connectionManager) {
+        return pooledHttpClient(connectionManager,
+                citeScraperResponseTimeoutMs, citeScraperPoolWaitTimeoutMs, citeScraperKeepAliveMs, citeScraperIdleEvictMs);
+    }
+
+    private PoolingHttpClientConnectionManager pooledConnectionManager(MeterRegistry meterRegistry, String poolName,
+                                                                       int maxTotal, int maxPerRoute,
+                                                                       long connectTimeoutMs, long socketTimeoutMs) {
+        PoolingHttpClientConnectionManager connectionManager = new MeteredConnectionManager(meterRegistry, poolName);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(socketTimeoutMs))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                .build());
+
+        // 풀 크기, 사용 중/유휴 커넥션 수, 대기 중인 요청 수(포화 여부) 게이지
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, poolName).bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    private CloseableHttpClient pooledHttpClient(PoolingHttpClientConnectionManager connectionManager,
+                                                 long responseTimeoutMs, long poolWaitTimeoutMs,
+                                                 long keepAliveMs, long idleEvictMs) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                // 풀이 꽉 찼을 때 커넥션을 기다리는 최대 시간
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitTimeoutMs))
+                .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                // 서버가 Keep-Alive 헤더를 주지 않을 때 커넥션 재사용 기간
+                .setConnectionKeepAlive(TimeValue.ofMilliseconds(keepAliveMs))
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictMs))
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.phraiz.back.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 주기 작업(@Scheduled) 활성화 - 사용량 write-behind 반영 등
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
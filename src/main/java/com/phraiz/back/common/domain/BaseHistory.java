@@ -14,6 +14,9 @@ import java.time.LocalDateTime;
 @ToString(callSuper = true)
 public abstract class BaseHistory{
 
+    // 히스토리별 보관하는 content 최대 개수 (초과분은 오래된 것부터 삭제)
+    public static final int MAX_CONTENTS = 10;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;                 // 1. PK
@@ -36,6 +39,11 @@ public abstract class BaseHistory{
     @Column(name = "last_update", nullable = false)
     private LocalDateTime lastUpdate; // 6. 최종 수정 시각
 
+    // 마지막으로 발급한 content sequence number (삭제돼도 줄지 않음)
+    //  - BaseHistoryRepository.incrementSequenceNumber 로만 증가 (엔티티 update 가 덮어쓰지 않도록 updatable = false)
+    @Column(name = "last_sequence_number", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private int lastSequenceNumber;   // 7. content 번호 카운터
+
     /* 수정 시 lastUpdate 자동 갱신 */
     @PreUpdate
     protected void onUpdate() {
@@ -0,0 +1,6 @@
+package com.phraiz.back.common.dto.response;
+
+import java.util.List;
+
+// 커서 기반 목록 응답 - nextCursor 를 다음 요청의 cursor 로 전달 (hasNext 가 false 면 null)
+public record CursorPageDTO<T>(List<T> content, String nextCursor, boolean hasNext) {}
@@ -0,0 +1,6 @@
+package com.phraiz.back.common.dto.response;
+
+import java.time.LocalDateTime;
+
+// 히스토리 목록 항목 - 엔티티 대신 필요한 컬럼만 조회 (JPQL 생성자 projection)
+public record HistoryListItemDTO(Long id, String name, LocalDateTime createdAt, LocalDateTime lastUpdate) {}
@@ -0,0 +1,38 @@
+package com.phraiz.back.common.dto.response;
+
+// OpenAI 호출 결과 - cached: 결과 캐시에서 가져온 경우 true (업스트림 호출 없음)
+//  - promptTokens / completionTokens: 응답의 usage 블록 값 (캐시 적중 등으로 알 수 없으면 0)
+//  - failed: 업스트림 호출 실패 (content 는 "Error: ..." 메시지)
+public record OpenAIResultDTO(String content, boolean cached, int promptTokens, int completionTokens, boolean failed) {
+
+    public OpenAIResultDTO(String content, boolean cached) {
+        this(content, cached, 0, 0, false);
+    }
+
+    public OpenAIResultDTO(String content, boolean cached, int promptTokens, int completionTokens) {
+        this(content, cached, promptTokens, completionTokens, false);
+    }
+
+    // 업스트림 호출 실패 결과
+    public static OpenAIResultDTO failure(String message) {
+        return new OpenAIResultDTO(message, false, 0, 0, true);
+    }
+
+    public int totalTokens() {
+        return promptTokens + completionTokens;
+    }
+
+    public boolean hasUsage() {
+        return totalTokens() > 0;
+    }
+
+    // 다른 요청의 결과를 공유받은 경우 - 사용량 정보는 유지
+    public OpenAIResultDTO asCached() {
+        return new OpenAIResultDTO(content, true, promptTokens, completionTokens, failed);
+    }
+
+    // 사용량만 바꾼 결과
+    public OpenAIResultDTO withTokens(int promptTokens, int completionTokens) {
+        return new OpenAIResultDTO(content, cached, promptTokens, completionTokens, failed);
+    }
+}
@@ -13,6 +13,8 @@ public enum GlobalErrorCode implements ErrorCode {
     REDIS_CONNECTION_ERROR(500, "SYS002", "캐시 서버 연결에 실패했습니다.", "GLOBAL"),
     FILE_UPLOAD_FAILED(500, "SYS003", "파일 업로드에 실패했습니다.", "GLOBAL"),
     EMAIL_SERVICE_DOWN(503, "SYS004", "이메일 서비스가 현재 사용할 수 없습니다.", "GLOBAL"),
+    OPENAI_API_ERROR(502, "SYS006", "AI 서버 응답 처리 중 오류가 발생했습니다.", "GLOBAL"),
+    LLM_TOO_MANY_REQUESTS(429, "SYS007", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", "GLOBAL"),
 
     // 공통 유효성 검증
     INVALID_INPUT_VALUE(400, "CLT001", "유효하지 않은 입력입니다.", "GLOBAL"),
@@ -22,6 +24,7 @@ public enum GlobalErrorCode implements ErrorCode {
     // 기타
     RESOURCE_NOT_FOUND(404, "CLT004", "요청한 리소스를 찾을 수 없습니다.", "GLOBAL"),
     METHOD_NOT_ALLOWED(405, "CLT005", "허용되지 않은 HTTP 메서드입니다.", "GLOBAL"),
+    INVALID_CURSOR(400, "CLT006", "유효하지 않은 목록 커서입니다.", "GLOBAL"),
     // GlobalErrorCode.java 중 일부 (추가)
     // 인증/인가 - SECURITY
     AUTH_HEADER_MISSING(401, "AUTH001", "인증 토큰이 존재하지 않습니다.", "SECURITY"),
@@ -4,8 +4,12 @@ import com.phraiz.back.common.domain.BaseFolder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @NoRepositoryBean
@@ -14,4 +18,17 @@ public interface BaseFolderRepository<T extends BaseFolder>
     Page<T> findAllByMemberId(String memberId, Pageable pageable);
     Optional<T> findByIdAndMemberId(Long id, String memberId);
     boolean existsByMemberIdAndName(String memberId, String name);
+
+    // 커서 기반 목록 - (createdAt, id) 가 커서보다 앞선 항목을 최신순으로 (count 쿼리 없음)
+    //  - 인덱스 (member_id, created_at, id) 사용
+    @Query("""
+        select f from #{#entityName} f
+         where f.memberId = :memberId
+           and (f.createdAt < :createdAt or (f.createdAt = :createdAt and f.id < :id))
+         order by f.createdAt desc, f.id desc
+    """)
+    List<T> findNext(@Param("memberId") String memberId,
+                     @Param("createdAt") LocalDateTime createdAt,
+                     @Param("id") Long id,
+                     Pageable pageable);
 }
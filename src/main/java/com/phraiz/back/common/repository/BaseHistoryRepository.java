@@ -2,11 +2,17 @@ package com.phraiz.back.common.repository;
 
 
 import com.phraiz.back.common.domain.BaseHistory;
+import com.phraiz.back.common.dto.response.HistoryListItemDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @NoRepositoryBean
@@ -16,4 +22,70 @@ public interface BaseHistoryRepository<T extends BaseHistory>
     Page<T> findAllByMemberIdAndFolderIdIsNull(String memberId, Pageable pageable); // folderId가 null인 경우
     Optional<T> findByIdAndMemberId(Long id, String memberId);
     long countByMemberId(String memberId);
-}
\ No newline at end of file
+
+    // content sequence number 발급 - 원자적으로 증가시킨 뒤 같은 트랜잭션에서 조회
+    //  - 증가한 히스토리 row 는 커밋까지 잠기므로 동시에 추가해도 번호가 겹치지 않음
+    @Modifying(flushAutomatically = true)
+    @Query("update #{#entityName} h set h.lastSequenceNumber = h.lastSequenceNumber + 1 where h.id = :id")
+    int incrementSequenceNumber(@Param("id") Long id);
+
+    @Query("select h.lastSequenceNumber from #{#entityName} h where h.id = :id")
+    int findLastSequenceNumber(@Param("id") Long id);
+
+    // 목록용 projection - 엔티티 대신 id, name, createdAt, lastUpdate 만 조회
+    @Query(value = """
+        select new com.phraiz.back.common.dto.response.HistoryListItemDTO(h.id, h.name, h.createdAt, h.lastUpdate)
+          from #{#entityName} h
+         where h.memberId = :memberId
+           and h.folderId = :folderId
+    """, countQuery = """
+        select count(h) from #{#entityName} h
+         where h.memberId = :memberId
+           and h.folderId = :folderId
+    """)
+    Page<HistoryListItemDTO> findListItemsByFolderId(@Param("memberId") String memberId,
+                                                     @Param("folderId") Long folderId,
+                                                     Pageable pageable);
+
+    @Query(value = """
+        select new com.phraiz.back.common.dto.response.HistoryListItemDTO(h.id, h.name, h.createdAt, h.lastUpdate)
+          from #{#entityName} h
+         where h.memberId = :memberId
+           and h.folderId is null
+    """, countQuery = """
+        select count(h) from #{#entityName} h
+         where h.memberId = :memberId
+           and h.folderId is null
+    """)
+    Page<HistoryListItemDTO> findListItemsByFolderIdIsNull(@Param("memberId") String memberId,
+                                                           Pageable pageable);
+
+    // 커서 기반 목록 - (createdAt, id) 가 커서보다 앞선 항목을 최신순으로 (count 쿼리 없음)
+    //  - 인덱스 (member_id, folder_id, created_at, id) 사용
+    @Query("""
+        select new com.phraiz.back.common.dto.response.HistoryListItemDTO(h.id, h.name, h.createdAt, h.lastUpdate)
+          from #{#entityName} h
+         where h.memberId = :memberId
+           and h.folderId = :folderId
+           and (h.createdAt < :createdAt or (h.createdAt = :createdAt and h.id < :id))
+         order by h.createdAt desc, h.id desc
+    """)
+    List<HistoryListItemDTO> findNextByFolderId(@Param("memberId") String memberId,
+                                                @Param("folderId") Long folderId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    @Query("""
+        select new com.phraiz.back.common.dto.response.HistoryListItemDTO(h.id, h.name, h.createdAt, h.lastUpdate)
+          from #{#entityName} h
+         where h.memberId = :memberId
+           and h.folderId is null
+           and (h.createdAt < :createdAt or (h.createdAt = :createdAt and h.id < :id))
+         order by h.createdAt desc, h.id desc
+    """)
+    List<HistoryListItemDTO> findNextByFolderIdIsNull(@Param("memberId") String memberId,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Long id,
+                                                      Pageable pageable);
+}
@@ -2,13 +2,14 @@ package com.phraiz.back.common.security;
 
 import com.phraiz.back.common.filter.RequestLoggingFilter;
 import com.phraiz.back.common.security.jwt.JwtAuthenticationFilter;
+import com.phraiz.back.common.security.user.PrincipalCache;
 import com.phraiz.back.common.security.jwt.JwtUtil;
+import com.phraiz.back.common.security.jwt.TokenBlacklist;
 import com.phraiz.back.common.security.oauth.CustomOAuth2SuccessHandler;
 import com.phraiz.back.member.service.CustomOAuth2UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -33,7 +34,8 @@ public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenBlacklist tokenBlacklist;
+    private final PrincipalCache principalCache;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final CustomOAuth2SuccessHandler customOAuth2SuccessHandler;
 
@@ -95,7 +97,7 @@ public class SecurityConfig {
                             .successHandler(customOAuth2SuccessHandler);
                 })
                 .addFilterBefore(new RequestLoggingFilter(), UsernamePasswordAuthenticationFilter.class)
-                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, userDetailsService,redisTemplate), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, principalCache, tokenBlacklist), UsernamePasswordAuthenticationFilter.class)
                 .build();
 
     }
@@ -7,14 +7,14 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.RedisSystemException;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import com.phraiz.back.common.security.user.PrincipalCache;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.security.web.authentication.WebAuthenticationDetails;
@@ -23,27 +23,29 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 
 // HTTP 요청에서 JWT 토큰을 꺼내고, 유효한 경우 인증된 사용자로 등록
+@Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil; // 검증, 추출
-    private final UserDetailsService userDetailsService; // id로 사용자 정보 불러오는 시큐리티 인터페이스
-    private final RedisTemplate<String, String> redisTemplate;
+    private final PrincipalCache principalCache; // id로 사용자 정보 불러오기 (로컬 캐시, 미스 시 DB 조회)
+    private final TokenBlacklist tokenBlacklist; // 로그아웃 토큰 (로컬 Bloom filter, 있을 수도 있을 때만 Redis 확인)
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService, RedisTemplate<String, String> redisTemplate) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, PrincipalCache principalCache, TokenBlacklist tokenBlacklist) {
         this.jwtUtil = jwtUtil;
-        this.userDetailsService = userDetailsService;
-        this.redisTemplate = redisTemplate;
+        this.principalCache = principalCache;
+        this.tokenBlacklist = tokenBlacklist;
     }
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String token=getJwtToken(request);
-        System.out.println("JwtAuthenticationFilter 작동중, 요청 URI: " + request.getRequestURI());
+        log.debug("[JwtFilter] 요청 URI: {}", request.getRequestURI());
         try{
-            if(token!=null && jwtUtil.validateToken(token)){ // 토큰 존재&유효
+            // 토큰 존재 시 서명/만료 검증과 클레임 추출을 한 번에 수행 (유효하지 않으면 예외)
+            JwtClaims claims = token != null ? jwtUtil.parse(token) : null;
+            if(claims!=null){ // 토큰 존재&유효
                 // 블랙리스트 토큰 검사 추가
                 try {
-                    String isLogout = redisTemplate.opsForValue().get(token);
-                    if ("logout".equals(isLogout)) {
+                    if (tokenBlacklist.isBlacklisted(claims, token)) {
                         // 이미 로그아웃된 토큰 → 인증 거부
                         throw new InternalServerException(GlobalErrorCode.AUTH_TOKEN_LOGGED_OUT);
                     }
@@ -57,10 +59,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 //                    response.getWriter().write("This token is logged out.");
 //                    return;
 //                }
-                String id=jwtUtil.getSubjectFromToken(token); // 사용자 id 추출
+                String id=claims.subject(); // 사용자 id 추출
                 UserDetails userDetails;
                 try {
-                    userDetails = userDetailsService.loadUserByUsername(id);
+                    userDetails = principalCache.load(id);
                 } catch (UsernameNotFoundException e) {
                     throw new InternalServerException(GlobalErrorCode.AUTH_USER_NOT_FOUND, e);
                 } catch (DataAccessException e) {
@@ -0,0 +1,12 @@
+package com.phraiz.back.common.security.jwt;
+
+import java.time.Instant;
+
+// 서명 검증이 끝난 토큰의 클레임 (불변)
+//  - memberId: access token 에만 있음 (refresh token 은 null)
+public record JwtClaims(String subject, Long memberId, String jti, Instant issuedAt, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
@@ -1,7 +1,10 @@
 package com.phraiz.back.common.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.phraiz.back.common.util.HashUtil;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -12,7 +15,9 @@ import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -20,6 +25,10 @@ import java.util.Date;
 // 토큰에 사용자 정보 담아 만들고, 토큰 유효성 검사 및 데이터 추출
 public class JwtUtil {
     private final Key key;
+    // 서명 검증용 파서 - 불변/스레드 안전하므로 한 번만 생성해서 재사용
+    private final JwtParser parser;
+    // 최근 검증한 토큰 (토큰 해시 -> 클레임) - 같은 토큰의 반복 요청은 서명 검증/파싱 생략
+    private final Cache<String, JwtClaims> verifiedTokens;
     @Getter
     private final Long accessTokenExpTime;
     @Getter
@@ -28,11 +37,16 @@ public class JwtUtil {
     public JwtUtil(
             @Value("${jwt.secret-key}") final String secretKey,
             @Value("${jwt.access-expire}") final long accessTokenExpTime,
-            @Value("${jwt.refresh-expire}") final long refreshTokenExpTime)
+            @Value("${jwt.refresh-expire}") final long refreshTokenExpTime,
+            @Value("${jwt.verified-cache.max-size:10000}") final long verifiedCacheMaxSize)
     {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
         this.accessTokenExpTime = accessTokenExpTime;
         this.refreshTokenExpTime = refreshTokenExpTime;
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .build();
     }
 
     // access token 생성
@@ -43,6 +57,7 @@ public class JwtUtil {
         // 최종적으로 String 의 JWT 토큰 반환
         return Jwts.builder()
                 .setSubject(id)
+                .setId(UUID.randomUUID().toString()) // jti - 블랙리스트 등 토큰 식별용
                 .claim("memberId", memberId)    // 권한 체크용
                 .setIssuedAt(now) // 발급시간
                 .setExpiration(expiryDate)
@@ -63,27 +78,46 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * 토큰 서명/만료 검증 후 클레임 반환 - 유효하지 않으면 jjwt 예외(ExpiredJwtException 등) 발생
+     * 최근 검증한 토큰이면 캐시된 클레임을 반환 (만료 시각은 매번 확인)
+     */
+    public JwtClaims parse(String token) {
+        String cacheKey = HashUtil.sha256Hex(token);
+        JwtClaims cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null) {
+            if (!cached.isExpired(Instant.now())) {
+                return cached;
+            }
+            // 만료된 토큰은 다시 파싱해서 ExpiredJwtException 발생
+            verifiedTokens.invalidate(cacheKey);
+        }
+
+        Claims body = parser.parseClaimsJws(token).getBody();
+        Object memberId = body.get("memberId");
+        JwtClaims claims = new JwtClaims(
+                body.getSubject(),
+                memberId != null ? Long.valueOf(memberId.toString()) : null,
+                body.getId(),
+                body.getIssuedAt() != null ? body.getIssuedAt().toInstant() : null,
+                body.getExpiration() != null ? body.getExpiration().toInstant() : null);
+        verifiedTokens.put(cacheKey, claims);
+        return claims;
+    }
+
     // 토큰 파싱해서 subject 꺼내오기
     public String getSubjectFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+        return parse(token).subject();
     }
 
     // 유효성 체크(만료 여부 등)
     public boolean validateToken(String token) {
-        Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token); // 여기서 유효하지 않으면 예외 발생
+        parse(token); // 여기서 유효하지 않으면 예외 발생
         return true;
     }
 
     // 토큰에서 memberId 추출
     public Long getMemberIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(key)
-                .parseClaimsJws(token)
-                .getBody();
-        return Long.valueOf(claims.get("memberId").toString());
+        return parse(token).memberId();
     }
 }
@@ -0,0 +1,273 @@
+package com.phraiz.back.common.security.jwt;
+
+import com.phraiz.back.common.util.HashUtil;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃된 access token 블랙리스트
+ * - Redis: "BL:{jti}" -> 토큰 만료 시각(epoch ms), TTL 은 토큰의 남은 유효기간
+ * - 각 서버는 만료 시각 구간별 Bloom filter 를 들고 있어서, filter 에 없으면 Redis 조회 없이 통과
+ *   (filter 에 있을 수도 있을 때만 Redis 로 확인)
+ * - 추가는 pub/sub 으로 모든 서버에 전파하고, 놓친 메시지는 주기적인 재동기화로 보완
+ * - 이전 버전 서버가 남긴 "{토큰}" -> "logout" 키는 첫 재동기화 때 한 서버만 한 번 새 형식으로 옮김
+ *   (Redis 마커 키로 중복 실행 방지, 이전 버전 서버가 계속 읽으므로 원래 키는 지우지 않고 TTL 로 만료)
+ */
+@Slf4j
+@Component
+public class TokenBlacklist {
+
+    // 블랙리스트 추가 알림 채널 - 메시지 본문은 "{jti}:{만료 시각}"
+    public static final String CHANNEL = "auth:blacklist";
+    private static final String KEY_PREFIX = "BL:";
+    // 이전 버전 블랙리스트 - 키: access token 원문(JWT 헤더가 base64url 로 "eyJ" 로 시작), 값: "logout"
+    private static final String LEGACY_KEY_PATTERN = "eyJ*";
+    private static final String LEGACY_VALUE = "logout";
+    // 이전 형식 키 이전을 이미 실행했다는 표시 (클러스터 전체에서 한 번만 실행)
+    static final String LEGACY_MIGRATED_KEY = "auth:blacklist:legacy-migrated";
+    private static final String LEGACY_RUNNING = "running";
+    private static final String LEGACY_DONE = "done";
+    private static final Duration LEGACY_LOCK_TTL = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate redisTemplate;
+    private final JwtUtil jwtUtil;
+    private final boolean migrateLegacy;
+    private final long bucketMillis;
+    private final int expectedPerBucket;
+    private final double fpp;
+
+    // 구간 시작 시각 -> 해당 구간에 만료되는 토큰의 Bloom filter
+    private final ConcurrentSkipListMap<Long, BloomFilter> buckets = new ConcurrentSkipListMap<>();
+    // 첫 동기화 전에는 filter 가 비어 있으므로 항상 Redis 로 확인
+    private volatile boolean synced = false;
+    // 이 서버가 이전 형식 키 이전 여부를 확인했는지 (확인한 뒤에는 재동기화 때 다시 보지 않음)
+    private volatile boolean legacyChecked = false;
+
+    public TokenBlacklist(StringRedisTemplate redisTemplate,
+                          RedisMessageListenerContainer listenerContainer,
+                          JwtUtil jwtUtil,
+                          @Value("${jwt.blacklist.migrate-legacy:true}") boolean migrateLegacy,
+                          @Value("${jwt.blacklist.bucket-seconds:600}") long bucketSeconds,
+                          @Value("${jwt.blacklist.expected-per-bucket:10000}") int expectedPerBucket,
+                          @Value("${jwt.blacklist.fpp:0.001}") double fpp) {
+        this.redisTemplate = redisTemplate;
+        this.jwtUtil = jwtUtil;
+        this.migrateLegacy = migrateLegacy;
+        this.bucketMillis = TimeUnit.SECONDS.toMillis(bucketSeconds);
+        this.expectedPerBucket = expectedPerBucket;
+        this.fpp = fpp;
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 블랙리스트 등록 (로그아웃)
+     * - Redis 저장 실패는 호출부로 전파 (로그아웃 실패)
+     */
+    public void add(JwtClaims claims, String token) {
+        String id = tokenId(claims, token);
+        long expiresAt = claims.expiresAt().toEpochMilli();
+        long ttl = expiresAt - System.currentTimeMillis();
+        if (ttl <= 0) {
+            return; // 이미 만료된 토큰은 검증 단계에서 걸러짐
+        }
+
+        redisTemplate.opsForValue().set(KEY_PREFIX + id, String.valueOf(expiresAt), ttl, TimeUnit.MILLISECONDS);
+        // 이 서버는 바로 반영
+        addLocal(id, expiresAt);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, id + ":" + expiresAt);
+        } catch (Exception e) {
+            // 다른 서버는 다음 재동기화 때 반영됨
+            log.warn("[TokenBlacklist] 블랙리스트 메시지 발행 실패 id={}", id, e);
+        }
+    }
+
+    /**
+     * 블랙리스트 여부 - filter 에 없으면 바로 false, 있을 수도 있으면 Redis 로 확인
+     * - Redis 오류(DataAccessException)는 호출부로 전파
+     */
+    public boolean isBlacklisted(JwtClaims claims, String token) {
+        String id = tokenId(claims, token);
+        if (synced && !mightContain(id, claims.expiresAt().toEpochMilli())) {
+            return false;
+        }
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + id));
+    }
+
+    /**
+     * 재동기화 - 만료된 구간 정리 후 Redis 의 블랙리스트를 filter 에 다시 반영
+     * - 서버 기동 직후(워밍업)와 이후 주기적으로 실행, pub/sub 메시지를 놓친 경우를 보완
+     * - 블랙리스트는 추가만 되므로 기존 filter 에 더하기만 하면 됨
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${jwt.blacklist.resync-interval-ms:60000}")
+    public void resync() {
+        buckets.headMap(bucketOf(System.currentTimeMillis())).clear();
+
+        // 이전 형식 키를 먼저 옮겨야 아래 스캔에서 함께 반영됨
+        if (migrateLegacy && !legacyChecked) {
+            migrateLegacyKeysOnce();
+        }
+
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> keys = new ArrayList<>();
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == 1000) {
+                    loadKeys(keys);
+                    keys.clear();
+                }
+            }
+            loadKeys(keys);
+            synced = true;
+        } catch (Exception e) {
+            // 동기화 전이면 계속 Redis 로 확인, 이후라면 pub/sub 으로 받은 항목은 유지
+            log.warn("[TokenBlacklist] 블랙리스트 재동기화 실패", e);
+        }
+    }
+
+    /**
+     * 이전 버전 형식 키 이전 - 마커 키를 먼저 선점한 서버만 한 번 실행
+     * - 선점 시 "running"(TTL 있음), 완료하면 "done"(TTL 없음) 으로 바꿈
+     * - "done" 을 본 서버는 이후 재동기화에서 eyJ* 전체 스캔을 하지 않음
+     * - 실행 중 실패하거나 서버가 죽으면 마커를 지우거나 TTL 로 만료시켜 다음 재동기화에서 다시 시도
+     */
+    private void migrateLegacyKeysOnce() {
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(LEGACY_MIGRATED_KEY, LEGACY_RUNNING, LEGACY_LOCK_TTL);
+            if (!Boolean.TRUE.equals(acquired)) {
+                // 다른 서버가 실행 중이면 다음 재동기화 때 다시 확인
+                legacyChecked = LEGACY_DONE.equals(redisTemplate.opsForValue().get(LEGACY_MIGRATED_KEY));
+                return;
+            }
+            if (migrateLegacyKeys()) {
+                redisTemplate.opsForValue().set(LEGACY_MIGRATED_KEY, LEGACY_DONE);
+                legacyChecked = true;
+                log.info("[TokenBlacklist] 이전 형식 블랙리스트 이전 완료");
+            } else {
+                redisTemplate.delete(LEGACY_MIGRATED_KEY);
+            }
+        } catch (Exception e) {
+            log.warn("[TokenBlacklist] 이전 형식 블랙리스트 마커 처리 실패", e);
+        }
+    }
+
+    /**
+     * 이전 버전 형식("{토큰}" -> "logout") 키를 "BL:{id}" 로 복사
+     * - 모든 서버가 새 버전으로 바뀐 뒤 배포하면 한 번으로 충분 (전환 중 이전 버전 서버가 새로 등록한 키는 옮기지 않음)
+     * - 이전 키가 모두 만료되면 jwt.blacklist.migrate-legacy=false 로 끔
+     */
+    private boolean migrateLegacyKeys() {
+        ScanOptions options = ScanOptions.scanOptions().match(LEGACY_KEY_PATTERN).count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> keys = new ArrayList<>();
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == 1000) {
+                    migrateLegacyKeys(keys);
+                    keys.clear();
+                }
+            }
+            migrateLegacyKeys(keys);
+            return true;
+        } catch (Exception e) {
+            log.warn("[TokenBlacklist] 이전 형식 블랙리스트 이전 실패", e);
+            return false;
+        }
+    }
+
+    private void migrateLegacyKeys(List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return;
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            if (!LEGACY_VALUE.equals(values.get(i))) {
+                continue;
+            }
+            String token = keys.get(i);
+            JwtClaims claims;
+            try {
+                claims = jwtUtil.parse(token);
+            } catch (JwtException | IllegalArgumentException e) {
+                continue; // 만료됐거나 이 서버가 발급한 토큰이 아니면 옮기지 않음
+            }
+            long expiresAt = claims.expiresAt().toEpochMilli();
+            long ttl = expiresAt - System.currentTimeMillis();
+            if (ttl > 0) {
+                redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + tokenId(claims, token),
+                        String.valueOf(expiresAt), ttl, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void loadKeys(List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return;
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            String value = values.get(i);
+            if (value != null) {
+                addLocal(keys.get(i).substring(KEY_PREFIX.length()), Long.parseLong(value));
+            }
+        }
+    }
+
+    private void onMessage(String body) {
+        int sep = body.lastIndexOf(':');
+        if (sep < 0) {
+            return;
+        }
+        try {
+            addLocal(body.substring(0, sep), Long.parseLong(body.substring(sep + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("[TokenBlacklist] 잘못된 블랙리스트 메시지 body={}", body);
+        }
+    }
+
+    private void addLocal(String id, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        buckets.computeIfAbsent(bucketOf(expiresAt), k -> new BloomFilter(expectedPerBucket, fpp)).put(id);
+    }
+
+    private boolean mightContain(String id, long expiresAt) {
+        BloomFilter filter = buckets.get(bucketOf(expiresAt));
+        return filter != null && filter.mightContain(id);
+    }
+
+    private long bucketOf(long epochMillis) {
+        return epochMillis - Math.floorMod(epochMillis, bucketMillis);
+    }
+
+    // jti 가 없는 토큰(이전 버전에서 발급)은 토큰 해시로 식별
+    private static String tokenId(JwtClaims claims, String token) {
+        return claims.jti() != null ? claims.jti() : HashUtil.sha256Hex(token);
+    }
+}
@@ -0,0 +1,70 @@
+package com.phraiz.back.common.security.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.phraiz.back.member.domain.Member;
+import com.phraiz.back.member.enums.LoginType;
+import com.phraiz.back.member.service.MemberCacheInvalidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * JWT 인증 시 사용자 정보 캐시 (요청마다 member 를 조회하던 부분 대체)
+ * - 토큰 subject(회원 아이디) -> 회원 정보 스냅샷 (비밀번호 해시는 보관하지 않음)
+ * - TTL 은 access token 유효기간을 넘지 않음
+ * - 로그아웃/요금제 변경/비밀번호 재설정 시 MemberCacheInvalidator 로 무효화
+ */
+@Component
+public class PrincipalCache {
+
+    private final CustomUserDetailsService userDetailsService;
+    private final Cache<String, Principal> cache;
+
+    public PrincipalCache(CustomUserDetailsService userDetailsService,
+                          MemberCacheInvalidator invalidator,
+                          MeterRegistry meterRegistry,
+                          @Value("${jwt.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${jwt.principal-cache.ttl-seconds:300}") long ttlSeconds,
+                          @Value("${jwt.access-expire}") long accessTokenExpTime) {
+        this.userDetailsService = userDetailsService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(Math.min(Duration.ofSeconds(ttlSeconds).toMillis(), accessTokenExpTime)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principal");
+        invalidator.addListener(cache::invalidate);
+    }
+
+    // 캐시된 정보로 요청마다 새 UserDetails 생성 (요청 간 Member 객체를 공유하지 않음)
+    public UserDetails load(String id) {
+        return cache.get(id, key -> Principal.from(
+                ((CustomUserDetails) userDetailsService.loadUserByUsername(key)).getMember()))
+                .toUserDetails();
+    }
+
+    private record Principal(Long memberId, String id, Long planId, String email,
+                             LoginType loginType, String role) {
+
+        static Principal from(Member member) {
+            return new Principal(member.getMemberId(), member.getId(), member.getPlanId(),
+                    member.getEmail(), member.getLoginType(), member.getRole());
+        }
+
+        CustomUserDetails toUserDetails() {
+            return new CustomUserDetails(Member.builder()
+                    .memberId(memberId)
+                    .id(id)
+                    .planId(planId)
+                    .email(email)
+                    .loginType(loginType)
+                    .role(role)
+                    .build());
+        }
+    }
+}
@@ -1,18 +1,23 @@
 package com.phraiz.back.common.service;
 
 import com.phraiz.back.common.domain.BaseFolder;
+import com.phraiz.back.common.dto.response.CursorPageDTO;
 import com.phraiz.back.common.dto.response.FoldersResponseDTO;
 import com.phraiz.back.common.exception.GlobalErrorCode;
 import com.phraiz.back.common.exception.custom.BusinessLogicException;
 import com.phraiz.back.common.repository.BaseFolderRepository;
+import com.phraiz.back.common.util.KeysetCursor;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  *  도메인(SUMMARY / PARAPHRASE / CITATION …) 별 서비스가
  *  이 클래스를 상속해 공통 CRUD 로직을 재사용.
@@ -22,6 +27,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public abstract class AbstractFolderService<E extends BaseFolder> {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     protected final BaseFolderRepository<E> repo;
 
     @Transactional(readOnly = true)
@@ -31,6 +38,23 @@ public abstract class AbstractFolderService<E extends BaseFolder> {
                 .map(this::toDTO);
     }
 
+    // 커서 기반 목록 - 다음 항목 존재 여부 확인을 위해 size+1 개 조회
+    @Transactional(readOnly = true)
+    public CursorPageDTO<FoldersResponseDTO> getFoldersByCursor(String memberId, @Nullable String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        List<E> rows = repo.findNext(memberId, after.createdAt(), after.id(), PageRequest.of(0, limit + 1));
+
+        boolean hasNext = rows.size() > limit;
+        List<E> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            E last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPageDTO<>(page.stream().map(this::toDTO).toList(), nextCursor, hasNext);
+    }
+
     public void createFolder(String memberId, String name) {
         // 사용자의 요금제 불러오기 - free 요금제는 create 불가능
         validateCreateFolder(memberId);
@@ -2,11 +2,13 @@ package com.phraiz.back.common.service;
 
 import com.phraiz.back.common.domain.BaseHistory;
 import com.phraiz.back.common.dto.request.HistoryUpdateDTO;
-import com.phraiz.back.common.dto.response.HistoriesResponseDTO;
+import com.phraiz.back.common.dto.response.CursorPageDTO;
 import com.phraiz.back.common.dto.response.HistoryContentResponseDTO;
+import com.phraiz.back.common.dto.response.HistoryListItemDTO;
 import com.phraiz.back.common.exception.GlobalErrorCode;
 import com.phraiz.back.common.exception.custom.BusinessLogicException;
 import com.phraiz.back.common.repository.BaseHistoryRepository;
+import com.phraiz.back.common.util.KeysetCursor;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -17,18 +19,46 @@ import org.springframework.data.domain.Sort;
 import org.springframework.lang.Nullable;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @RequiredArgsConstructor
 @Transactional
 public abstract class AbstractHistoryService<E extends BaseHistory> {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     protected final BaseHistoryRepository<E> repo;
 
+    // 목록은 엔티티 대신 projection(id, name, createdAt, lastUpdate)으로 조회
+    //  - 항목을 감싸지 않은 평평한 목록으로 응답
     @Transactional(readOnly = true)
-    public Page<HistoriesResponseDTO> getHistories(String memberId, @Nullable Long folderId, int p, int s) {
+    public Page<HistoryListItemDTO> getHistories(String memberId, @Nullable Long folderId, int p, int s) {
         Pageable pg = PageRequest.of(p, s, Sort.by("createdAt").descending());
         return (folderId == null)
-                ? repo.findAllByMemberIdAndFolderIdIsNull(memberId, pg).map(this::toDTO)
-                : repo.findAllByMemberIdAndFolderId(memberId, folderId, pg).map(this::toDTO);
+                ? repo.findListItemsByFolderIdIsNull(memberId, pg)
+                : repo.findListItemsByFolderId(memberId, folderId, pg);
+    }
+
+    // 커서 기반 목록 - 다음 항목 존재 여부 확인을 위해 size+1 개 조회
+    //  - 항목을 감싸지 않은 평평한 목록으로 응답
+    @Transactional(readOnly = true)
+    public CursorPageDTO<HistoryListItemDTO> getHistoriesByCursor(String memberId, @Nullable Long folderId,
+                                                                    @Nullable String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        Pageable pg = PageRequest.of(0, limit + 1);
+        List<HistoryListItemDTO> rows = (folderId == null)
+                ? repo.findNextByFolderIdIsNull(memberId, after.createdAt(), after.id(), pg)
+                : repo.findNextByFolderId(memberId, folderId, after.createdAt(), after.id(), pg);
+
+        boolean hasNext = rows.size() > limit;
+        List<HistoryListItemDTO> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            HistoryListItemDTO last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.createdAt(), last.id()).encode();
+        }
+        return new CursorPageDTO<>(page, nextCursor, hasNext);
     }
 
     public void createHistory(String memberId, @Nullable Long folderId, String name) {
@@ -71,7 +101,12 @@ public abstract class AbstractHistoryService<E extends BaseHistory> {
     }
     // readHistoryContent는 각 도메인별 HistoryService에서 Content 조회와 함께 구현
     
-    protected abstract HistoriesResponseDTO toDTO(E entity);
+    // 히스토리의 다음 content sequence number 발급 (UPDATE 후 SELECT)
+    protected int allocateSequenceNumber(Long historyId) {
+        repo.incrementSequenceNumber(historyId);
+        return repo.findLastSequenceNumber(historyId);
+    }
+
     protected abstract E newHistoryEntity(String memberId, Long folderId, String name);
     protected abstract void validateRemainingHistoryCount(String memberId);
 }
@@ -0,0 +1,125 @@
+package com.phraiz.back.common.service;
+
+import com.phraiz.back.common.enums.Plan;
+import com.phraiz.back.common.exception.GlobalErrorCode;
+import com.phraiz.back.common.exception.custom.BusinessLogicException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * OpenAI 호출 실행기
+ * - 톰캣 요청 스레드/DB 트랜잭션과 분리된 llmExecutor 에서 실행
+ * - 전역 / 요금제별 동시 실행 수 제한 -> 긴 요약 요청이 몰려도 로그인/히스토리 API 가 굶지 않도록
+ * - 한도를 넘으면 대기하지 않고 바로 429 반환
+ * - 긴 문서 부분 요약(조각) 호출은 이미 요청 한도를 얻은 작업 안에서 실행되므로 별도 한도(llmChunkExecutor 크기)로
+ *   제한하고, 자리가 날 때까지 chunk-acquire-timeout 만큼 대기
+ */
+@Slf4j
+@Service
+public class LlmExecutionService {
+
+    private final Executor llmExecutor;
+    private final Executor chunkExecutor;
+    private final Semaphore globalPermits;
+    private final Semaphore chunkPermits;
+    private final long chunkAcquireTimeoutMs;
+    private final Map<Plan, Semaphore> planPermits = new EnumMap<>(Plan.class);
+
+    public LlmExecutionService(@Qualifier("llmExecutor") Executor llmExecutor,
+                               @Qualifier("llmChunkExecutor") Executor chunkExecutor,
+                               MeterRegistry meterRegistry,
+                               @Value("${summary.long-document.executor-size:16}") int chunkLimit,
+                               @Value("${summary.long-document.chunk-acquire-timeout-ms:60000}") long chunkAcquireTimeoutMs,
+                               @Value("${openai.concurrency.global:64}") int globalLimit,
+                               @Value("${openai.concurrency.plan.free:8}") int freeLimit,
+                               @Value("${openai.concurrency.plan.basic:16}") int basicLimit,
+                               @Value("${openai.concurrency.plan.standard:24}") int standardLimit,
+                               @Value("${openai.concurrency.plan.pro:32}") int proLimit) {
+        this.llmExecutor = llmExecutor;
+        this.chunkExecutor = chunkExecutor;
+        this.globalPermits = new Semaphore(globalLimit);
+        // 먼저 기다린 조각부터 실행
+        this.chunkPermits = new Semaphore(chunkLimit, true);
+        this.chunkAcquireTimeoutMs = chunkAcquireTimeoutMs;
+        planPermits.put(Plan.FREE, new Semaphore(freeLimit));
+        planPermits.put(Plan.BASIC, new Semaphore(basicLimit));
+        planPermits.put(Plan.STANDARD, new Semaphore(standardLimit));
+        planPermits.put(Plan.PRO, new Semaphore(proLimit));
+
+        // 현재 실행 중인 호출 수
+        Gauge.builder("llm.inflight", globalPermits, s -> globalLimit - s.availablePermits())
+                .tag("plan", "ALL")
+                .register(meterRegistry);
+        Map<Plan, Integer> limits = Map.of(Plan.FREE, freeLimit, Plan.BASIC, basicLimit,
+                Plan.STANDARD, standardLimit, Plan.PRO, proLimit);
+        planPermits.forEach((plan, permits) ->
+                Gauge.builder("llm.inflight", permits, s -> limits.get(plan) - s.availablePermits())
+                        .tag("plan", plan.name())
+                        .register(meterRegistry));
+        Gauge.builder("llm.inflight", chunkPermits, s -> chunkLimit - s.availablePermits())
+                .tag("plan", "CHUNK")
+                .register(meterRegistry);
+    }
+
+    // 동시 실행 한도 내에서 task 를 비동기로 실행 (한도 초과 시 BusinessLogicException)
+    public <T> CompletableFuture<T> submit(Plan plan, Supplier<T> task) {
+        Semaphore permits = planPermits.get(plan);
+        if (!permits.tryAcquire()) {
+            throw new BusinessLogicException(GlobalErrorCode.LLM_TOO_MANY_REQUESTS,
+                    String.format("요금제별 동시 요청 한도 초과 (%s)", plan.name()));
+        }
+        if (!globalPermits.tryAcquire()) {
+            permits.release();
+            throw new BusinessLogicException(GlobalErrorCode.LLM_TOO_MANY_REQUESTS, "전체 동시 요청 한도 초과");
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(task, llmExecutor)
+                    .whenComplete((result, ex) -> {
+                        globalPermits.release();
+                        permits.release();
+                    });
+        } catch (RuntimeException e) {
+            // 스레드 풀이 작업을 거부한 경우
+            globalPermits.release();
+            permits.release();
+            log.warn("[LLM] task rejected by executor", e);
+            throw new BusinessLogicException(GlobalErrorCode.LLM_TOO_MANY_REQUESTS);
+        }
+    }
+
+    // 긴 문서 부분 요약 조각을 비동기로 실행 - 자리가 없으면 대기, 시간 초과 시 BusinessLogicException
+    public <T> CompletableFuture<T> submitChunk(Supplier<T> task) {
+        boolean acquired;
+        try {
+            acquired = chunkPermits.tryAcquire(chunkAcquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            throw new BusinessLogicException(GlobalErrorCode.LLM_TOO_MANY_REQUESTS, "부분 요약 동시 실행 한도 초과");
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(task, chunkExecutor)
+                    .whenComplete((result, ex) -> chunkPermits.release());
+        } catch (RuntimeException e) {
+            chunkPermits.release();
+            log.warn("[LLM] chunk task rejected by executor", e);
+            throw new BusinessLogicException(GlobalErrorCode.LLM_TOO_MANY_REQUESTS);
+        }
+    }
+}
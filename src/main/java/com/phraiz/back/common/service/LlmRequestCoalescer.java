@@ -0,0 +1,157 @@
+package com.phraiz.back.common.service;
+
+import com.phraiz.back.common.dto.response.OpenAIResultDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 OpenAI 요청 동시 실행 병합 (single-flight)
+ * - 같은 서버: 같은 키로 진행 중인 호출이 있으면 새로 호출하지 않고 그 결과를 함께 사용
+ * - 여러 서버(선택): Redis 락을 잡은 서버만 호출하고, 나머지는 결과 캐시에 결과가 올라올 때까지 대기
+ *   결과 캐시가 꺼져 있으면 결과를 받을 방법이 없으므로 서버 간 병합은 하지 않음
+ * - 병합되어 직접 호출하지 않은 요청은 cached=true 로 반환 (캐시 적중과 동일하게 취급)
+ * - 실패는 예외로 전달 (에러 결과를 다른 요청과 공유하지 않도록 upstream 은 실패 시 예외를 던져야 함)
+ */
+@Slf4j
+@Service
+public class LlmRequestCoalescer {
+
+    private static final String LOCK_PREFIX = "llm_lock:";
+    private static final DefaultRedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final ConcurrentMap<String, CompletableFuture<OpenAIResultDTO>> inFlight = new ConcurrentHashMap<>();
+
+    private final StringRedisTemplate redisTemplate;
+    private final LlmResultCache llmResultCache;
+    private final Counter coalescedCounter;
+    private final boolean distributed;
+    private final Duration lockTtl;
+    private final long pollIntervalMs;
+
+    public LlmRequestCoalescer(StringRedisTemplate redisTemplate,
+                               LlmResultCache llmResultCache,
+                               MeterRegistry meterRegistry,
+                               @Value("${openai.single-flight.distributed:false}") boolean distributed,
+                               @Value("${openai.single-flight.lock-ttl-ms:70000}") long lockTtlMs,
+                               @Value("${openai.single-flight.poll-interval-ms:200}") long pollIntervalMs) {
+        this.redisTemplate = redisTemplate;
+        this.llmResultCache = llmResultCache;
+        // 다른 서버는 결과 캐시를 통해서만 결과를 받을 수 있음 - 캐시가 꺼져 있으면 락 대기만 길어짐
+        this.distributed = distributed && llmResultCache.isEnabled();
+        if (distributed && !this.distributed) {
+            log.warn("[LLM SingleFlight] 결과 캐시가 꺼져 있어 서버 간 병합을 사용하지 않음 (서버 내 병합만 사용)");
+        }
+        this.lockTtl = Duration.ofMillis(lockTtlMs);
+        this.pollIntervalMs = pollIntervalMs;
+        this.coalescedCounter = Counter.builder("llm.single_flight.coalesced")
+                .description("진행 중인 동일 요청에 병합되어 업스트림 호출을 생략한 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param key      요청 지문 (LlmResultCache 키와 동일)
+     * @param upstream 실제 업스트림 호출 - 성공 시 결과 캐시 저장까지 수행해야 다른 서버가 결과를 받을 수 있음,
+     *                 실패 시 에러 결과를 반환하지 말고 예외를 던져야 함
+     */
+    public OpenAIResultDTO execute(String key, Supplier<OpenAIResultDTO> upstream) {
+        CompletableFuture<OpenAIResultDTO> mine = new CompletableFuture<>();
+        CompletableFuture<OpenAIResultDTO> existing = inFlight.putIfAbsent(key, mine);
+
+        // 1. 같은 서버에서 이미 진행 중이면 그 결과를 기다림
+        if (existing != null) {
+            coalescedCounter.increment();
+            OpenAIResultDTO shared = join(existing);
+            return shared.asCached();
+        }
+
+        // 2. 이 요청이 대표로 호출
+        try {
+            OpenAIResultDTO result = distributed ? executeWithLock(key, upstream) : upstream.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private OpenAIResultDTO executeWithLock(String key, Supplier<OpenAIResultDTO> upstream) {
+        String lockKey = LOCK_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + lockTtl.toMillis();
+
+        while (true) {
+            Boolean acquired;
+            try {
+                acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTtl);
+            } catch (Exception e) {
+                // Redis 장애 시 서버 간 병합 없이 바로 호출
+                log.warn("[LLM SingleFlight] Redis 락 획득 실패 - 병합 없이 호출", e);
+                return upstream.get();
+            }
+
+            if (Boolean.TRUE.equals(acquired)) {
+                try {
+                    return upstream.get();
+                } finally {
+                    releaseLock(lockKey, token);
+                }
+            }
+
+            // 다른 서버가 호출 중 - 결과 캐시에 올라오면 그 결과 사용
+            Optional<String> cached = llmResultCache.get(key);
+            if (cached.isPresent()) {
+                coalescedCounter.increment();
+                return new OpenAIResultDTO(cached.get(), true);
+            }
+            if (System.currentTimeMillis() > deadline) {
+                return upstream.get();
+            }
+            try {
+                Thread.sleep(pollIntervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return upstream.get();
+            }
+        }
+    }
+
+    private void releaseLock(String lockKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), token);
+        } catch (Exception e) {
+            // 해제 실패 시 TTL 로 자동 만료
+            log.warn("[LLM SingleFlight] Redis 락 해제 실패: {}", lockKey, e);
+        }
+    }
+
+    private OpenAIResultDTO join(CompletableFuture<OpenAIResultDTO> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
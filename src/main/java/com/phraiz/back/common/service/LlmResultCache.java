@@ -0,0 +1,105 @@
+package com.phraiz.back.common.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.phraiz.back.common.util.HashUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 동일한 요약/패러프레이징 요청 결과 캐시 (OpenAIService 앞단)
+ * - 키: (정규화한 프롬프트, 시스템 메시지, 모델, temperature, top_p, max_tokens) 의 SHA-256
+ * - 1차: 서버 로컬 Caffeine 캐시 (크기 제한 + TTL)
+ * - 2차: Redis (여러 서버가 공유, TTL)
+ * - Redis 장애 시 캐시 미스로 취급하고 요청은 그대로 진행
+ */
+@Slf4j
+@Service
+public class LlmResultCache {
+
+    private static final String KEY_PREFIX = "llm_result:";
+    // 줄 끝 공백만 제거 (줄바꿈/들여쓰기는 프롬프트 구조라서 유지)
+    private static final Pattern TRAILING_WHITESPACE = Pattern.compile("[ \\t\\x0B\\f]+$", Pattern.MULTILINE);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, String> localCache;
+    private final boolean enabled;
+    private final Duration ttl;
+
+    public LlmResultCache(StringRedisTemplate redisTemplate,
+                          @Value("${openai.cache.enabled:true}") boolean enabled,
+                          @Value("${openai.cache.ttl-seconds:86400}") long ttlSeconds,
+                          @Value("${openai.cache.local-max-size:1000}") long localMaxSize,
+                          @Value("${openai.cache.local-ttl-seconds:600}") long localTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+    }
+
+    // 요청 파라미터로 캐시 키 생성 - 줄바꿈(CRLF)/줄 끝 공백/유니코드 정규화로 사소한 차이는 같은 요청으로 취급
+    public String key(String model, String systemMessage, String prompt,
+                      Double temperature, Double topP, Integer maxTokens) {
+        String unified = Normalizer.normalize(prompt, Normalizer.Form.NFC)
+                .replace("\r\n", "\n")
+                .replace('\r', '\n');
+        String normalizedPrompt = TRAILING_WHITESPACE.matcher(unified)
+                .replaceAll("")
+                .stripTrailing();
+        String fingerprint = String.join("\u0000",
+                model, systemMessage, normalizedPrompt,
+                String.valueOf(temperature), String.valueOf(topP), String.valueOf(maxTokens));
+        return HashUtil.sha256Hex(fingerprint);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<String> get(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        // 1. 로컬 캐시
+        String value = localCache.getIfPresent(key);
+        if (value != null) {
+            return Optional.of(value);
+        }
+
+        // 2. Redis
+        try {
+            value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        } catch (Exception e) {
+            log.warn("[LLM Cache] Redis 조회 실패 - 캐시 미스로 처리", e);
+            return Optional.empty();
+        }
+        if (value != null) {
+            localCache.put(key, value);
+        }
+        return Optional.ofNullable(value);
+    }
+
+    public void put(String key, String value) {
+        if (!enabled || value == null || value.isBlank()) {
+            return;
+        }
+
+        localCache.put(key, value);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, value, ttl);
+        } catch (Exception e) {
+            log.warn("[LLM Cache] Redis 저장 실패", e);
+        }
+    }
+}
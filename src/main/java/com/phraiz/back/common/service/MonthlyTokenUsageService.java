@@ -3,18 +3,37 @@ package com.phraiz.back.common.service;
 import com.phraiz.back.common.domain.MonthlyTokenUsage;
 import com.phraiz.back.common.repository.MonthlyTokenUsageRepository;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
 @Service
 public class MonthlyTokenUsageService {
 
+    private static final String UPSERT_PREFIX =
+            "INSERT INTO monthly_token_usage (member_id, month, used_tokens, version, updated_at) VALUES ";
+    private static final String UPSERT_ROW = "(?, ?, ?, 0, NOW())";
+    // VALUES() 참조는 MySQL 8.0.20 부터 deprecated -> 행 별칭(8.0.19+) 사용
+    private static final String UPSERT_SUFFIX =
+            " AS incoming ON DUPLICATE KEY UPDATE used_tokens = used_tokens + incoming.used_tokens,"
+                    + " version = version + 1, updated_at = NOW()";
+
     private final MonthlyTokenUsageRepository repo;
+    private final JdbcTemplate jdbcTemplate;
 
-    public MonthlyTokenUsageService(MonthlyTokenUsageRepository repo) {
+    public MonthlyTokenUsageService(MonthlyTokenUsageRepository repo, JdbcTemplate jdbcTemplate) {
         this.repo = repo;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
+    // 회원/월별 사용량 증가분
+    public record UsageIncrement(String memberId, String month, long tokens) {}
+
     /**
      * DB에서 월별 사용량을 조회. 없으면 0행을 생성 후 0 반환.
      * (캐시는 호출자 모듈에서 별도로 처리)
@@ -28,20 +47,37 @@ public class MonthlyTokenUsageService {
 
     /**
      * 월별 사용량 증가(원자적). 행이 없으면 생성 후 1회 재시도.
-     * 최종적으로 증가 후의 최신 usedTokens 값을 반환.
+     * (평소에는 TokenUsageWriteBehindService 가 일괄 반영하고, Redis 장애 시에만 직접 호출)
      */
     @Transactional
-    public long incrementUsedTokens(String memberId, String month, long increment) {
+    public void incrementUsedTokens(String memberId, String month, long increment) {
         int updated = repo.incrementUsedTokens(memberId, month, increment);
         if (updated == 0) {
             // 행이 없었던 경쟁 상황 -> 생성 후 다시 증가
             createRowIfAbsent(memberId, month);
             repo.incrementUsedTokens(memberId, month, increment);
         }
-        // 증가 후 최신값 조회
-        return repo.findByMemberIdAndMonth(memberId, month)
-                .map(MonthlyTokenUsage::getUsedTokens)
-                .orElse(0L); // 거의 도달하지 않음
+    }
+
+    /**
+     * 여러 회원의 월별 사용량 증가분을 한 번의 multi-row upsert 로 반영.
+     * UNIQUE(member, month) 충돌 시 기존 값에 더함.
+     */
+    @Transactional
+    public void incrementUsedTokensBatch(Collection<UsageIncrement> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>(increments.size() * 3);
+        for (UsageIncrement increment : increments) {
+            args.add(increment.memberId());
+            args.add(increment.month());
+            args.add(increment.tokens());
+        }
+        String sql = UPSERT_PREFIX
+                + String.join(", ", Collections.nCopies(increments.size(), UPSERT_ROW))
+                + UPSERT_SUFFIX;
+        jdbcTemplate.update(sql, args.toArray());
     }
 
     /**
@@ -1,49 +1,198 @@
 package com.phraiz.back.common.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.phraiz.back.common.config.GptConfig;
-import lombok.AllArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.phraiz.back.common.dto.response.OpenAIResultDTO;
+import com.phraiz.back.common.exception.GlobalErrorCode;
+import com.phraiz.back.common.exception.custom.InternalServerException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
-@AllArgsConstructor
+@Slf4j
 @Service
 public class OpenAIService {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final GptConfig gptConfig;
+    private final LlmResultCache llmResultCache;
+    private final LlmRequestCoalescer llmRequestCoalescer;
 
-    public String callParaphraseOpenAI(String text, String mode, int scale) {
+    // 비스트리밍 호출 실패 시 결과 앞에 붙는 접두사
+    public static final String ERROR_PREFIX = "Error: ";
+
+    private static final String PARAPHRASE_SYSTEM_MESSAGE = "당신은 문장을 다양한 스타일로 바꿔주는 전문가입니다. 사용자가 제공하는 강도(scale)에 맞춰 문장을 다시 작성하세요.";
+    private static final String SUMMARY_SYSTEM_MESSAGE = "당신은 문서를 다양한 방식으로 요약하는 전문가입니다.";
+
+    // OpenAI 전용 커넥션 풀/타임아웃이 적용된 RestTemplate 사용 (HttpClientConfig)
+    public OpenAIService(@Qualifier("openAIRestTemplate") RestTemplate restTemplate,
+                         ObjectMapper objectMapper,
+                         GptConfig gptConfig,
+                         LlmResultCache llmResultCache,
+                         LlmRequestCoalescer llmRequestCoalescer) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.gptConfig = gptConfig;
+        this.llmResultCache = llmResultCache;
+        this.llmRequestCoalescer = llmRequestCoalescer;
+    }
+
+    public OpenAIResultDTO callParaphraseOpenAI(String text, String mode, int scale) {
         // 1. scale 값에 따라 temperature, top_p 파라미터 계산
         //    파이썬 코드의 lerp 함수와 동일한 역할
         double temperature = 0.1 + (0.9 - 0.1) * (scale / 100.0);
         double topP = 0.6 + (1.0 - 0.6) * (scale / 100.0);
 
         // 2. scale 포함하여 프롬프트 구체화
-        String systemMessage = "당신은 문장을 다양한 스타일로 바꿔주는 전문가입니다. 사용자가 제공하는 강도(scale)에 맞춰 문장을 다시 작성하세요.";
-        String prompt = String.format(
-                "모드: %s\n강도: %d/100\n\n다음 문장을 다시 작성해줘: %s", mode, scale, text);
+        String prompt = buildParaphrasePrompt(text, mode, scale);
 
 //        String prompt = String.format(
 //                "%s 모드로 다음 문장을 바꿔줘: %s", mode, text);
 
        // return callOpenAIInternal(prompt, "당신은 문장을 다양한 스타일로 바꿔주는 전문가입니다.", gptConfig.getTemperatureParaphrase());
-        return callOpenAIInternal(prompt, systemMessage, temperature, topP);
+        return callOpenAIInternal(prompt, PARAPHRASE_SYSTEM_MESSAGE, temperature, topP);
+    }
+
+    public OpenAIResultDTO callSummaryOpenAI(String text, String mode) {
+        String prompt = String.format("%s: %s",mode, text);
+        return callOpenAIInternal(prompt, SUMMARY_SYSTEM_MESSAGE, gptConfig.getTemperatureSummary(), null);
+    }
+
+    // 스트리밍 패러프레이징 - 생성되는 조각(delta)마다 onDelta 호출, 완성된 전체 결과 반환
+    public OpenAIResultDTO streamParaphraseOpenAI(String text, String mode, int scale, Consumer<String> onDelta) {
+        double temperature = 0.1 + (0.9 - 0.1) * (scale / 100.0);
+        double topP = 0.6 + (1.0 - 0.6) * (scale / 100.0);
+
+        String prompt = buildParaphrasePrompt(text, mode, scale);
+        return streamOpenAIInternal(prompt, PARAPHRASE_SYSTEM_MESSAGE, temperature, topP, onDelta);
     }
 
-    public String callSummaryOpenAI(String text, String mode) {
+    // 스트리밍 요약 - 생성되는 조각(delta)마다 onDelta 호출, 완성된 전체 결과 반환
+    public OpenAIResultDTO streamSummaryOpenAI(String text, String mode, Consumer<String> onDelta) {
         String prompt = String.format("%s: %s",mode, text);
-        return callOpenAIInternal(prompt, "당신은 문서를 다양한 방식으로 요약하는 전문가입니다.", gptConfig.getTemperatureSummary(), null);
+        return streamOpenAIInternal(prompt, SUMMARY_SYSTEM_MESSAGE, gptConfig.getTemperatureSummary(), null, onDelta);
+    }
+
+    private String buildParaphrasePrompt(String text, String mode, int scale) {
+        return String.format(
+                "모드: %s\n강도: %d/100\n\n다음 문장을 다시 작성해줘: %s", mode, scale, text);
+    }
+
+    private OpenAIResultDTO callOpenAIInternal(String prompt, String systemMessage, Double temperature, Double topP) {
+        // 1. 같은 요청의 결과가 캐시에 있으면 업스트림 호출 없이 반환
+        String cacheKey = resultCacheKey(prompt, systemMessage, temperature, topP);
+        Optional<String> cached = llmResultCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return new OpenAIResultDTO(cached.get(), true);
+        }
+
+        // 2. 같은 요청이 동시에 들어오면 한 번만 호출하고 결과를 공유
+        //    실패는 예외로 전달해서 에러 문자열이 공유/캐시되지 않도록 하고, 요청마다 에러 결과로 변환
+        try {
+            return llmRequestCoalescer.execute(cacheKey, () -> {
+                HttpEntity<Map<String, Object>> entity = buildRequestEntity(prompt, systemMessage, temperature, topP, false);
+
+                try {
+                    ResponseEntity<String> response = restTemplate.exchange(
+                            gptConfig.getApiUrl(),
+                            HttpMethod.POST,
+                            entity,
+                            String.class
+                    );
+                    OpenAIResultDTO result = extractResultFromResponse(response.getBody());
+
+                    // 3. 정상 응답만 캐시에 저장
+                    llmResultCache.put(cacheKey, result.content());
+                    return result;
+                } catch (Exception e) {
+                    throw new InternalServerException(GlobalErrorCode.OPENAI_API_ERROR, e);
+                }
+            });
+        } catch (RuntimeException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return OpenAIResultDTO.failure(ERROR_PREFIX + cause.getMessage());
+        }
     }
 
-    private String callOpenAIInternal(String prompt, String systemMessage, Double temperature, Double topP) {
+    private OpenAIResultDTO streamOpenAIInternal(String prompt, String systemMessage, Double temperature, Double topP,
+                                                 Consumer<String> onDelta) {
+        // 캐시에 있으면 전체 결과를 한 번에 delta 로 전달
+        String cacheKey = resultCacheKey(prompt, systemMessage, temperature, topP);
+        Optional<String> cached = llmResultCache.get(cacheKey);
+        if (cached.isPresent()) {
+            onDelta.accept(cached.get());
+            return new OpenAIResultDTO(cached.get(), true);
+        }
+
+        OpenAIResultDTO result = llmRequestCoalescer.execute(cacheKey, () -> {
+            HttpEntity<Map<String, Object>> entity = buildRequestEntity(prompt, systemMessage, temperature, topP, true);
+            // 대표 요청의 클라이언트가 끊겨도 업스트림 스트림은 끝까지 읽어서 병합된 요청에 결과 전달
+            Consumer<String> subscriber = detachOnFailure(onDelta);
+
+            // 스트리밍은 중간에 실패하면 결과를 저장하지 않아야 하므로 에러 문자열 대신 예외로 알림
+            OpenAIResultDTO streamed;
+            try {
+                streamed = restTemplate.execute(
+                        gptConfig.getApiUrl(),
+                        HttpMethod.POST,
+                        restTemplate.httpEntityCallback(entity, String.class),
+                        response -> readStream(response.getBody(), subscriber)
+                );
+            } catch (RestClientException e) {
+                throw new InternalServerException(GlobalErrorCode.OPENAI_API_ERROR, e);
+            }
+
+            llmResultCache.put(cacheKey, streamed.content());
+            return streamed;
+        });
+
+        // 다른 요청의 스트림에 병합된 경우 delta 를 받지 못했으므로 완성된 결과를 한 번에 전달
+        if (result.cached()) {
+            onDelta.accept(result.content());
+        }
+        return result;
+    }
+
+    // delta 전달이 실패하면(클라이언트 연결 종료 등) 이후 delta 는 버림 - 이 구독자만 제외하고 스트림은 계속
+    private Consumer<String> detachOnFailure(Consumer<String> onDelta) {
+        AtomicBoolean detached = new AtomicBoolean(false);
+        return delta -> {
+            if (detached.get()) {
+                return;
+            }
+            try {
+                onDelta.accept(delta);
+            } catch (RuntimeException e) {
+                detached.set(true);
+                log.warn("[OpenAI] 스트림 구독자 전달 실패 - 이후 delta 는 전달하지 않음: {}", e.toString());
+            }
+        };
+    }
+
+    private String resultCacheKey(String prompt, String systemMessage, Double temperature, Double topP) {
+        return llmResultCache.key(gptConfig.getModel(), systemMessage, prompt,
+                temperature, topP, gptConfig.getMaxTokens());
+    }
+
+    private HttpEntity<Map<String, Object>> buildRequestEntity(String prompt, String systemMessage,
+                                                             Double temperature, Double topP, boolean stream) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setBearerAuth(gptConfig.getSecretKey());
@@ -66,38 +215,70 @@ public class OpenAIService {
             requestBody.put("top_p", topP);
         }
         requestBody.put("max_tokens", gptConfig.getMaxTokens());
-
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-        try {
-            ResponseEntity<String> response = restTemplate.exchange(
-                    gptConfig.getApiUrl(),
-                    HttpMethod.POST,
-                    entity,
-                    String.class
-            );
-            return extractContentFromResponse(response.getBody());
-        } catch (Exception e) {
-            return "Error: " + e.getMessage();
+        if (stream) {
+            requestBody.put("stream", true);
+            // 마지막 청크로 usage 블록을 받아 사용량 계산에 사용
+            requestBody.put("stream_options", Map.of("include_usage", true));
         }
+
+        return new HttpEntity<>(requestBody, headers);
     }
 
-    private String extractContentFromResponse(String responseBody) {
-        try {
-            JsonNode root = objectMapper.readTree(responseBody);
+    // OpenAI 스트림 응답(SSE) 파싱: "data: {...}" 줄마다 delta 추출, "data: [DONE]" 이면 종료
+    //  - include_usage 사용 시 마지막 청크(choices 비어 있음)에 usage 블록이 옴
+    private OpenAIResultDTO readStream(InputStream body, Consumer<String> onDelta) throws IOException {
+        StringBuilder result = new StringBuilder();
+        JsonNode usage = null;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
 
-            return root
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.startsWith("data:")) {
+                continue;
+            }
+            String data = line.substring(5).trim();
+            if ("[DONE]".equals(data)) {
+                break;
+            }
+
+            JsonNode chunk = objectMapper.readTree(data);
+            if (chunk.hasNonNull("usage")) {
+                usage = chunk.get("usage");
+            }
+            String delta = chunk
                     .path("choices")
-                    .get(0)
-                    .path("message")
+                    .path(0)
+                    .path("delta")
                     .path("content")
-                    .asText();
-
-        } catch (Exception e) {
-            return "Error parsing response: " + e.getMessage();
+                    .asText("");
+            if (!delta.isEmpty()) {
+                result.append(delta);
+                onDelta.accept(delta);
+            }
         }
+        return toResult(result.toString(), usage);
     }
 
+    // 파싱 실패 시 예외를 그대로 던져 호출부에서 에러 결과로 처리 (에러 문자열이 캐시되지 않도록)
+    private OpenAIResultDTO extractResultFromResponse(String responseBody) throws JsonProcessingException {
+        JsonNode root = objectMapper.readTree(responseBody);
+
+        String content = root
+                .path("choices")
+                .get(0)
+                .path("message")
+                .path("content")
+                .asText();
+        return toResult(content, root.get("usage"));
+    }
 
+    private OpenAIResultDTO toResult(String content, JsonNode usage) {
+        if (usage == null) {
+            return new OpenAIResultDTO(content, false);
+        }
+        return new OpenAIResultDTO(content, false,
+                usage.path("prompt_tokens").asInt(0),
+                usage.path("completion_tokens").asInt(0));
+    }
 
 }
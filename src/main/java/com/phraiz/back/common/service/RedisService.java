@@ -11,6 +11,8 @@ import org.springframework.stereotype.Service;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
 
 @Service
 @Slf4j
@@ -110,7 +112,17 @@ public class RedisService {
         redisTemplate.delete(key);
     }
 
-    private Duration ttlUntilEndOfMonth() {
+    // 월 사용량 키 - TokenQuotaService 의 Lua 스크립트도 같은 키 사용
+    static String monthlyUsageKey(String memberId, String monthKey) {
+        return MONTHLY_USAGE_PREFIX + memberId + ":" + monthKey;
+    }
+
+    // 해당 월의 마지막 시각 (다음 달 1일 0시 1초 전) - EXPIREAT 용
+    static long endOfMonthEpochSecond(YearMonth month) {
+        return month.plusMonths(1).atDay(1).atStartOfDay(ZoneId.systemDefault()).toEpochSecond() - 1;
+    }
+
+    static Duration ttlUntilEndOfMonth() {
         LocalDateTime now = LocalDateTime.now();
         LocalDate firstDayNextMonth = now.toLocalDate().plusMonths(1).withDayOfMonth(1);
         LocalDateTime endOfMonth = firstDayNextMonth.atStartOfDay().minusSeconds(1);
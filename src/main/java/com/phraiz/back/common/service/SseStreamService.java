@@ -0,0 +1,112 @@
+package com.phraiz.back.common.service;
+
+import com.phraiz.back.common.enums.Plan;
+import com.phraiz.back.common.exception.ErrorCode;
+import com.phraiz.back.common.exception.ErrorResponse;
+import com.phraiz.back.common.exception.GlobalErrorCode;
+import com.phraiz.back.common.exception.custom.BusinessLogicException;
+import com.phraiz.back.common.exception.custom.InternalServerException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * OpenAI 스트리밍 응답을 클라이언트에 SSE로 전달
+ * - delta  : 생성되는 텍스트 조각 {"text": "..."}
+ * - done   : 스트림 완료 후 저장까지 끝난 최종 응답 DTO
+ * - error  : 실패 시 ErrorResponse (이 경우 결과는 저장되지 않음)
+ */
+@Slf4j
+@Service
+public class SseStreamService {
+
+    private final LlmExecutionService llmExecutionService;
+
+    @Value("${openai.stream.timeout-ms:180000}")
+    private long timeoutMs;
+
+    public SseStreamService(LlmExecutionService llmExecutionService) {
+        this.llmExecutionService = llmExecutionService;
+    }
+
+    /**
+     * @param plan       요금제별 동시 실행 제한에 사용 (한도 초과 시 스트림 시작 전에 예외)
+     * @param upstream   delta 콜백을 받아 스트리밍 호출 후 완성된 전체 결과를 반환
+     * @param onComplete 완성된 결과로 저장/사용량 반영 후 최종 응답 DTO 반환
+     * @param onFailure  결과를 저장하지 못하고 끝난 경우 호출 (선차감 토큰 반환 등)
+     */
+    public <R, T> SseEmitter stream(Plan plan, Function<Consumer<String>, R> upstream, Function<R, T> onComplete,
+                                    Runnable onFailure) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        String path = currentRequestPath();
+
+        try {
+            llmExecutionService.submit(plan, () -> {
+                boolean saved = false;
+                try {
+                    R result = upstream.apply(delta -> send(emitter, "delta", Map.of("text", delta)));
+                    T response = onComplete.apply(result);
+                    saved = true;
+                    send(emitter, "done", response);
+                    emitter.complete();
+                } catch (UncheckedIOException e) {
+                    // 클라이언트 연결 끊김 - 업스트림 읽기도 중단되고 결과는 저장하지 않음
+                    log.debug("[SSE] client disconnected: {}", path);
+                    emitter.completeWithError(e);
+                } catch (BusinessLogicException e) {
+                    sendErrorAndComplete(emitter, e.getErrorCode(), path);
+                } catch (InternalServerException e) {
+                    log.error("[SSE] stream failed: {}", path, e);
+                    sendErrorAndComplete(emitter, e.getErrorCode(), path);
+                } catch (Exception e) {
+                    log.error("[SSE] stream failed: {}", path, e);
+                    sendErrorAndComplete(emitter, GlobalErrorCode.INTERNAL_SERVER_ERROR, path);
+                } finally {
+                    if (!saved) {
+                        onFailure.run();
+                    }
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 동시 실행 한도 초과 등으로 시작하지 못한 경우
+            onFailure.run();
+            throw e;
+        }
+        return emitter;
+    }
+
+    private void send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void sendErrorAndComplete(SseEmitter emitter, ErrorCode errorCode, String path) {
+        try {
+            send(emitter, "error", ErrorResponse.from(errorCode, path));
+            emitter.complete();
+        } catch (UncheckedIOException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private String currentRequestPath() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getRequestURI();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,157 @@
+package com.phraiz.back.common.service;
+
+import com.phraiz.back.common.enums.Plan;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 월 토큰 한도 관리 (Redis Lua 스크립트로 원자적 처리)
+ * - reserve   : 한도 확인 + 예상 토큰 선차감 + 월말 만료 설정을 한 번의 왕복으로 처리
+ *               키의 월과 만료 시각은 같은 시각(YearMonth) 에서 계산 -> 월이 바뀌는 순간에도 어긋나지 않음
+ * - reconcile : 실제 사용량과의 차이만큼 보정
+ * - refund    : 업스트림 실패 시 선차감한 토큰 반환
+ * 조회 후 비교하고 나중에 증가시키던 방식은 동시 요청이 한도를 넘을 수 있어 대체
+ */
+@Slf4j
+@Service
+public class TokenQuotaService {
+
+    @SuppressWarnings("unchecked")
+    private static final Class<List<Long>> LONG_LIST = (Class<List<Long>>) (Class<?>) List.class;
+
+    // 키가 없으면 ARGV[4](DB 값)로 초기화, 그것도 없으면 -1 반환 -> 호출부가 DB 조회 후 재시도
+    // ARGV[3]: 키가 가리키는 달의 마지막 시각 (epoch seconds, EXPIREAT)
+    // 반환: {허용 여부(1/0/-1), 남은 토큰}
+    private static final RedisScript<List<Long>> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            local used = redis.call('GET', KEYS[1])
+            if not used then
+                if not ARGV[4] then
+                    return {-1, 0}
+                end
+                redis.call('SET', KEYS[1], ARGV[4])
+                redis.call('EXPIREAT', KEYS[1], ARGV[3])
+                used = ARGV[4]
+            end
+            used = tonumber(used)
+            local limit = tonumber(ARGV[1])
+            local tokens = tonumber(ARGV[2])
+            if used + tokens > limit then
+                return {0, limit - used}
+            end
+            local newUsed = redis.call('INCRBY', KEYS[1], tokens)
+            if redis.call('TTL', KEYS[1]) < 0 then
+                redis.call('EXPIREAT', KEYS[1], ARGV[3])
+            end
+            return {1, limit - newUsed}
+            """, LONG_LIST);
+
+    // 선차감과 실제 사용량의 차이 보정 - 키가 만료(월 변경)됐으면 무시, 0 미만으로 내려가지 않게 보정
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local value = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if value < 0 then
+                value = redis.call('INCRBY', KEYS[1], -value)
+            end
+            return value
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MonthlyTokenUsageService tokenUsageService;
+
+    public TokenQuotaService(StringRedisTemplate redisTemplate, MonthlyTokenUsageService tokenUsageService) {
+        this.redisTemplate = redisTemplate;
+        this.tokenUsageService = tokenUsageService;
+    }
+
+    /**
+     * 한도 내이면 예상 토큰을 선차감하고 예약 정보를 반환 (granted 가 false 이면 차감하지 않음)
+     */
+    public Reservation reserve(String memberId, Plan plan, long estimatedTokens) {
+        // 키의 월과 만료 시각을 같은 값에서 계산
+        YearMonth yearMonth = YearMonth.now();
+        String month = yearMonth.toString();
+        String key = RedisService.monthlyUsageKey(memberId, month);
+        String limit = String.valueOf(plan.getMaxTokensPerMonth());
+        String tokens = String.valueOf(estimatedTokens);
+        String expireAt = String.valueOf(RedisService.endOfMonthEpochSecond(yearMonth));
+
+        // 1. Redis 에 이번 달 사용량이 있으면 한 번의 왕복으로 처리
+        List<Long> result = redisTemplate.execute(RESERVE_SCRIPT, List.of(key), limit, tokens, expireAt);
+
+        // 2. 없으면 DB 값으로 초기화하면서 다시 시도 (동시에 다른 요청이 초기화했으면 그 값 사용)
+        if (result.get(0) < 0) {
+            long used = tokenUsageService.findOrInitializeUsedTokens(memberId, month);
+            result = redisTemplate.execute(RESERVE_SCRIPT, List.of(key), limit, tokens, expireAt, String.valueOf(used));
+        }
+
+        boolean granted = result.get(0) == 1;
+        return new Reservation(memberId, month, granted ? estimatedTokens : 0, granted, result.get(1));
+    }
+
+    /**
+     * 실제 사용량으로 보정 (선차감보다 많으면 추가 차감, 적으면 반환)
+     */
+    public void reconcile(Reservation reservation, long actualTokens) {
+        if (!reservation.settle()) {
+            return;
+        }
+        adjust(reservation, actualTokens - reservation.getReservedTokens());
+    }
+
+    /**
+     * 업스트림 실패 등으로 결과를 저장하지 못한 경우 선차감 전체 반환 (이미 보정된 예약은 무시)
+     */
+    public void refund(Reservation reservation) {
+        if (!reservation.settle()) {
+            return;
+        }
+        adjust(reservation, -reservation.getReservedTokens());
+    }
+
+    private void adjust(Reservation reservation, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        String key = RedisService.monthlyUsageKey(reservation.getMemberId(), reservation.getMonth());
+        try {
+            redisTemplate.execute(ADJUST_SCRIPT, List.of(key), String.valueOf(delta));
+        } catch (Exception e) {
+            // DB 가 원본이므로 다음 초기화 시 복구됨 - 요청은 실패시키지 않음
+            log.warn("[TokenQuota] 사용량 보정 실패 memberId={}, delta={}", reservation.getMemberId(), delta, e);
+        }
+    }
+
+    // 선차감 예약 - 보정/반환은 한 번만 적용
+    @Getter
+    public static class Reservation {
+
+        private final String memberId;
+        private final String month;
+        private final long reservedTokens;
+        private final boolean granted;
+        private final long remaining;
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        private Reservation(String memberId, String month, long reservedTokens, boolean granted, long remaining) {
+            this.memberId = memberId;
+            this.month = month;
+            this.reservedTokens = reservedTokens;
+            this.granted = granted;
+            this.remaining = remaining;
+        }
+
+        private boolean settle() {
+            return granted && settled.compareAndSet(false, true);
+        }
+    }
+}
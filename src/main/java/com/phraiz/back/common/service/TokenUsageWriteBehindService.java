@@ -0,0 +1,168 @@
+package com.phraiz.back.common.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 월 토큰 사용량 DB 반영 (write-behind)
+ * - 요청 처리 중에는 Redis 스트림에 증가분만 기록 (이번 달 사용량의 기준은 Redis - TokenQuotaService)
+ * - 스케줄러가 주기적으로 스트림을 읽어 회원/월별로 합산한 뒤 한 번의 multi-row upsert 로 DB 반영
+ * - 반영 후에만 ACK 하므로 서버가 중간에 죽어도 pending 항목을 다시 읽어 재처리
+ *   (DB 반영 직후 ACK 전에 죽으면 중복 반영될 수 있음 - at-least-once)
+ */
+@Slf4j
+@Service
+public class TokenUsageWriteBehindService {
+
+    private static final String GROUP = "usage-flusher";
+    private static final String MEMBER_ID = "memberId";
+    private static final String MONTH = "month";
+    private static final String TOKENS = "tokens";
+
+    private final StringRedisTemplate redisTemplate;
+    private final MonthlyTokenUsageService tokenUsageService;
+    private final String streamKey;
+    private final String consumerName;
+    private final int batchSize;
+    private final Duration claimIdle;
+
+    public TokenUsageWriteBehindService(StringRedisTemplate redisTemplate,
+                                        MonthlyTokenUsageService tokenUsageService,
+                                        @Value("${token-usage.write-behind.stream-key:token_usage_stream}") String streamKey,
+                                        @Value("${token-usage.write-behind.consumer:${HOSTNAME:}}") String consumerName,
+                                        @Value("${token-usage.write-behind.batch-size:500}") int batchSize,
+                                        @Value("${token-usage.write-behind.claim-idle-ms:60000}") long claimIdleMs) {
+        this.redisTemplate = redisTemplate;
+        this.tokenUsageService = tokenUsageService;
+        this.streamKey = streamKey;
+        // 서버마다 consumer 이름이 달라야 pending 항목이 섞이지 않음 - HOSTNAME 이 없으면 실행마다 새 이름
+        this.consumerName = consumerName.isBlank() ? "phraiz-" + UUID.randomUUID() : consumerName;
+        this.batchSize = batchSize;
+        this.claimIdle = Duration.ofMillis(claimIdleMs);
+    }
+
+    @PostConstruct
+    public void createGroup() {
+        try {
+            redisTemplate.opsForStream().createGroup(streamKey, ReadOffset.from("0"), GROUP);
+        } catch (Exception e) {
+            // 이미 그룹이 있으면(BUSYGROUP) 무시
+            log.debug("[UsageWriteBehind] consumer group 생성 생략: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사용량 증가분 기록 - Redis 장애 시 바로 DB 반영하여 사용량 유실 방지
+     */
+    public void record(String memberId, String month, long tokens) {
+        try {
+            redisTemplate.opsForStream().add(StreamRecords.string(Map.of(
+                    MEMBER_ID, memberId,
+                    MONTH, month,
+                    TOKENS, String.valueOf(tokens)
+            )).withStreamKey(streamKey));
+        } catch (Exception e) {
+            log.warn("[UsageWriteBehind] 스트림 기록 실패 - DB 직접 반영 memberId={}", memberId, e);
+            tokenUsageService.incrementUsedTokens(memberId, month, tokens);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${token-usage.write-behind.flush-interval-ms:5000}")
+    public void flush() {
+        try {
+            // 1. 오래 처리되지 않은 다른 서버의 pending 항목 인수 (해당 서버가 죽은 경우)
+            claimIdlePending();
+
+            // 2. 읽었지만 반영하지 못한 내 pending 항목 먼저 재처리
+            while (flushBatch(ReadOffset.from("0")) == batchSize) {
+                // 남은 pending 항목이 없을 때까지 반복
+            }
+
+            // 3. 새 항목 반영
+            while (flushBatch(ReadOffset.lastConsumed()) == batchSize) {
+                // 스트림이 빌 때까지 반복
+            }
+        } catch (Exception e) {
+            // 반영 실패한 항목은 pending 으로 남아 다음 주기에 재처리
+            log.error("[UsageWriteBehind] 사용량 DB 반영 실패", e);
+        }
+    }
+
+    private int flushBatch(ReadOffset offset) {
+        StreamOperations<String, Object, Object> ops = redisTemplate.opsForStream();
+        List<MapRecord<String, Object, Object>> records = ops.read(
+                Consumer.from(GROUP, consumerName),
+                StreamReadOptions.empty().count(batchSize),
+                StreamOffset.create(streamKey, offset));
+        if (records == null || records.isEmpty()) {
+            return 0;
+        }
+
+        // 1. 회원/월별 증가분 합산
+        Map<String, MonthlyTokenUsageService.UsageIncrement> increments = new LinkedHashMap<>();
+        List<RecordId> ids = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            ids.add(record.getId());
+            Map<Object, Object> value = record.getValue();
+            try {
+                String memberId = (String) value.get(MEMBER_ID);
+                String month = (String) value.get(MONTH);
+                long tokens = Long.parseLong((String) value.get(TOKENS));
+                increments.merge(memberId + ":" + month,
+                        new MonthlyTokenUsageService.UsageIncrement(memberId, month, tokens),
+                        (a, b) -> new MonthlyTokenUsageService.UsageIncrement(memberId, month, a.tokens() + b.tokens()));
+            } catch (RuntimeException e) {
+                // 잘못된 항목은 건너뜀 (재처리해도 실패하므로 ACK)
+                log.warn("[UsageWriteBehind] 잘못된 항목 무시 id={}, value={}", record.getId(), value);
+            }
+        }
+
+        // 2. 한 번의 multi-row upsert 로 DB 반영
+        tokenUsageService.incrementUsedTokensBatch(increments.values());
+
+        // 3. 반영 완료 후 ACK + 삭제
+        RecordId[] recordIds = ids.toArray(RecordId[]::new);
+        ops.acknowledge(streamKey, GROUP, recordIds);
+        ops.delete(streamKey, recordIds);
+        return records.size();
+    }
+
+    private void claimIdlePending() {
+        StreamOperations<String, Object, Object> ops = redisTemplate.opsForStream();
+        PendingMessages pending = ops.pending(streamKey, GROUP, Range.unbounded(), batchSize);
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+
+        RecordId[] idle = pending.stream()
+                .filter(message -> !consumerName.equals(message.getConsumerName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(claimIdle) > 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (idle.length > 0) {
+            ops.claim(streamKey, GROUP, consumerName, claimIdle, idle);
+        }
+    }
+}
@@ -1,35 +1,54 @@
 package com.phraiz.back.common.util;
 
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingType;
+import com.phraiz.back.common.dto.response.OpenAIResultDTO;
+
 public class GptTokenUtil {
-    private static final double DEFAULT_TOKEN_FACTOR = 1.5;
+
+    // gpt-4o 계열 모델의 BPE 인코딩 (어휘는 라이브러리에 포함된 리소스에서 최초 사용 시 한 번만 로드)
+    private static final Encoding ENCODING =
+            Encodings.newLazyEncodingRegistry().getEncoding(EncodingType.O200K_BASE);
 
     /**
-     * 한글/영문 혼합 텍스트의 토큰 수를 근사 계산합니다.
+     * 텍스트의 토큰 수를 모델 토크나이저(o200k_base)로 계산합니다.
+     * 특수 토큰 문자열도 일반 텍스트로 취급합니다.
      *
      * @param text 입력 텍스트
-     * @return 추정 토큰 수
+     * @return 토큰 수
      */
-    public static int estimateTokenCount(String text) {
-        if (text == null || text.isBlank()) {
+    public static int countTokens(String text) {
+        if (text == null || text.isEmpty()) {
             return 0;
         }
-        int length = text.length();
-        return (int) Math.ceil(length * DEFAULT_TOKEN_FACTOR);
+        return ENCODING.countTokensOrdinary(text);
     }
 
     /**
-     * 한글/영문 혼합 텍스트의 토큰 수를 커스텀 factor로 계산합니다.
+     * 사용량이 없는 결과(캐시 적중 등)에 입력/결과 텍스트의 토큰 수를 채워 반환합니다.
+     * 프롬프트 템플릿과 시스템 메시지는 포함되지 않으므로 usage 블록보다 약간 적게 계산됩니다.
      *
-     * @param text   입력 텍스트
-     * @param factor 문자당 토큰 비율 (기본 1.5)
-     * @return 추정 토큰 수
+     * @param requestText 사용자 입력 텍스트
+     * @param result      OpenAI 호출 결과
+     * @return usage 가 채워진 결과
      */
-    public static int estimateTokenCount(String text, double factor) {
-        if (text == null || text.isBlank()) {
-            return 0;
+    public static OpenAIResultDTO withUsage(String requestText, OpenAIResultDTO result) {
+        if (result.hasUsage()) {
+            return result;
         }
-        int length = text.length();
-        return (int) Math.ceil(length * factor);
+        return result.withTokens(countTokens(requestText), countTokens(result.content()));
+    }
+
+    /**
+     * 월 사용량에 반영할 토큰 수 - OpenAI usage 블록(프롬프트 + 결과)이 있으면 그 값을 사용합니다.
+     *
+     * @param requestText 사용자 입력 텍스트
+     * @param result      OpenAI 호출 결과
+     * @return 사용 토큰 수
+     */
+    public static int usedTokens(String requestText, OpenAIResultDTO result) {
+        return withUsage(requestText, result).totalTokens();
     }
 
 }
@@ -0,0 +1,37 @@
+package com.phraiz.back.common.util;
+
+import com.phraiz.back.common.exception.GlobalErrorCode;
+import com.phraiz.back.common.exception.custom.BusinessLogicException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 목록 커서 (createdAt, id) - 마지막으로 받은 항목 다음부터 조회
+ * - 클라이언트에는 불투명한 문자열(base64url)로 전달
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    // 첫 페이지 - 모든 항목보다 뒤에 있는 가상의 위치
+    public static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // null/빈 문자열이면 첫 페이지
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessLogicException(GlobalErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.phraiz.back.member.controller;
 
 import com.phraiz.back.common.exception.custom.BusinessLogicException;
 import com.phraiz.back.common.security.jwt.JwtUtil;
+import com.phraiz.back.common.security.jwt.TokenBlacklist;
 import com.phraiz.back.common.security.user.CustomUserDetails;
 import com.phraiz.back.member.domain.Member;
 import com.phraiz.back.member.dto.request.EmailCheckDTO;
@@ -12,8 +13,8 @@ import com.phraiz.back.member.dto.response.LoginResponseDTO;
 import com.phraiz.back.member.dto.response.SignUpResponseDTO;
 import com.phraiz.back.member.exception.MemberErrorCode;
 import com.phraiz.back.member.service.EmailService;
+import com.phraiz.back.member.service.MemberCacheInvalidator;
 import com.phraiz.back.member.service.MemberService;
-import jakarta.mail.MessagingException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -36,6 +37,8 @@ public class MemberController {
     private final EmailService emailService;
     private final JwtUtil jwtUtil;
     private final RedisTemplate<String, String> redisTemplate;
+    private final MemberCacheInvalidator memberCacheInvalidator;
+    private final TokenBlacklist tokenBlacklist;
 
     // accessToken 재발급
     // AccessToken은 만료기간이 짧기 때문에, 매번 로그인하는 대신 RefreshToken으로 연장
@@ -106,16 +109,10 @@ public class MemberController {
         }
         Map<String, Object> response = new HashMap<>();
         System.out.println("이메일 인증이메일: "+emailRequestDTO.getEmail());
-        try {
-            emailService.joinEmail(emailRequestDTO.getEmail());
-            response.put("success", true);
-            response.put("message", "인증번호가 발송되었습니다.");
-            return ResponseEntity.ok(response);
-        } catch (MessagingException e) {
-            response.put("success", false);
-            response.put("message", "이메일 발송에 실패했습니다.");
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        emailService.joinEmail(emailRequestDTO.getEmail());
+        response.put("success", true);
+        response.put("message", "인증번호가 발송되었습니다.");
+        return ResponseEntity.ok(response);
     }
     // 1-3. 인증코드 확인
     @PostMapping("/emails/mailAuthCheck")
@@ -172,13 +169,12 @@ public class MemberController {
 
             // bearer 제거(access token)
             String jwt = token.replace("Bearer ", "");
-            // jwt 만료 시간 계산
-            long expire = jwtUtil.getAccessTokenExpTime();
-            // redis에 저장(키: 토큰, value: "logout", ttl: 만료시간)
-            // accessToken 블랙리스트 등록
-            redisTemplate.opsForValue().set(jwt, "logout", expire, TimeUnit.MILLISECONDS);
+            // accessToken 블랙리스트 등록 (키: jti, ttl: 토큰의 남은 유효기간)
+            tokenBlacklist.add(jwtUtil.parse(jwt), jwt);
             // refreshToken redis에서 삭제
             redisTemplate.delete("RT:" + customUserDetails.getUsername());
+            // 인증 사용자 캐시 무효화
+            memberCacheInvalidator.invalidate(customUserDetails.getUsername());
 
             // 쿠키 삭제
             Cookie deleteCookie=new Cookie("refreshToken", null);
@@ -0,0 +1,83 @@
+package com.phraiz.back.member.domain;
+
+import com.phraiz.back.member.enums.EmailOutboxStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 이메일 발송 대기열 (outbox) - 요청 트랜잭션에서는 저장만 하고 발송은 EmailOutboxDispatcher 가 담당
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "email_outbox",
+        indexes = @Index(name = "idx_email_outbox_dispatch", columnList = "status, next_attempt_at")
+)
+public class EmailOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    // html 본문 - 발송 완료(SENT) 후에는 인증 코드 등이 남지 않도록 비움
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private EmailOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // 다음 발송 가능 시각 (SENDING 이면 임대 만료 시각)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    public EmailOutbox(String recipient, String subject, String content) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.content = content;
+        this.status = EmailOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    // 발송 시작 - 임대 시각까지 끝나지 않으면(서버 종료 등) 다시 발송 대상이 됨
+    public void lease(LocalDateTime leaseUntil) {
+        this.status = EmailOutboxStatus.SENDING;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    // 발송 실패 - 재시도 시각을 받으면 대기 상태로, null 이면 DEAD
+    public void fail(String error, LocalDateTime retryAt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (retryAt == null) {
+            this.status = EmailOutboxStatus.DEAD;
+            return;
+        }
+        this.status = EmailOutboxStatus.PENDING;
+        this.nextAttemptAt = retryAt;
+    }
+}
@@ -0,0 +1,9 @@
+package com.phraiz.back.member.enums;
+
+// 이메일 발송 대기열 상태
+public enum EmailOutboxStatus {
+    PENDING,    // 발송 대기 (재시도 대기 포함)
+    SENDING,    // 발송 중 - 임대 시각이 지나면 다시 발송 대상
+    SENT,       // 발송 완료
+    DEAD        // 재시도 초과 또는 복구 불가능한 오류
+}
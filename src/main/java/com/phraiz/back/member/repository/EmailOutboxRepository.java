@@ -0,0 +1,61 @@
+package com.phraiz.back.member.repository;
+
+import com.phraiz.back.member.domain.EmailOutbox;
+import com.phraiz.back.member.enums.EmailOutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // 발송 대상 조회 - 다른 서버가 잠근 행은 건너뜀 (lock.timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        select e from EmailOutbox e
+         where e.status in :statuses
+           and e.nextAttemptAt <= :now
+         order by e.nextAttemptAt
+    """)
+    List<EmailOutbox> findDispatchable(
+            @Param("statuses") Collection<EmailOutboxStatus> statuses,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    // 발송 완료 - 본문(인증 코드 등)은 더 이상 필요 없으므로 비움
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        update EmailOutbox e
+           set e.status = com.phraiz.back.member.enums.EmailOutboxStatus.SENT,
+               e.attempts = e.attempts + 1,
+               e.sentAt = :now,
+               e.content = null
+         where e.id in :ids
+    """)
+    int markSent(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 오래된 발송 완료 행 정리
+    @Modifying
+    @Query("""
+        delete from EmailOutbox e
+         where e.status = com.phraiz.back.member.enums.EmailOutboxStatus.SENT
+           and e.sentAt < :before
+    """)
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+
+    // 오래된 발송 포기(DEAD) 행 정리 - 원인 확인을 위해 발송 완료 행보다 오래 보관
+    @Modifying
+    @Query("""
+        delete from EmailOutbox e
+         where e.status = com.phraiz.back.member.enums.EmailOutboxStatus.DEAD
+           and e.createdAt < :before
+    """)
+    int deleteDeadBefore(@Param("before") LocalDateTime before);
+}
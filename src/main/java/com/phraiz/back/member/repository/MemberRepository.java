@@ -2,6 +2,8 @@ package com.phraiz.back.member.repository;
 
 import com.phraiz.back.member.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -15,4 +17,8 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     // 엔티티 필드 변경 없이 Repository 에 추가
     Optional<Member> findByMemberId(Long memberId); // 식별자
+
+    // 요금제 확인용 - 엔티티 전체 대신 planId 만 조회
+    @Query("select m.planId from Member m where m.id = :id")
+    Optional<Long> findPlanIdById(@Param("id") String id);
 }
@@ -0,0 +1,186 @@
+package com.phraiz.back.member.service;
+
+import com.phraiz.back.member.domain.EmailOutbox;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 이메일 발송기 - outbox 에 쌓인 메일을 백그라운드에서 발송
+ * 1. 주기적으로(또는 enqueue 커밋 직후) 발송 대상을 batch 단위로 선점
+ * 2. batch 하나를 worker 하나가 SMTP 연결 하나로 모두 발송 (JavaMailSender.send(MimeMessage...))
+ * 3. 메시지별 성공/실패를 기록 - 실패는 backoff 후 재시도, 한도를 넘으면 DEAD
+ * - 동시에 진행되는 batch 수는 worker 수로 제한 (요청 스레드와 무관)
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxService emailOutboxService;
+    private final JavaMailSender emailSender;
+    private final ThreadPoolTaskExecutor mailExecutor;
+
+    private final int batchSize;
+    private final long retentionDays;
+    private final long deadRetentionDays;
+    // 진행 중인 batch 수 제한 (worker 수)
+    private final Semaphore workers;
+    // 깨우기 요청이 몰려도 대기 중인 발송 작업은 하나만 둠
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean(false);
+
+    public EmailOutboxDispatcher(EmailOutboxService emailOutboxService,
+                                 JavaMailSender emailSender,
+                                 @Qualifier("mailExecutor") ThreadPoolTaskExecutor mailExecutor,
+                                 @Value("${email.outbox.workers:2}") int workerCount,
+                                 @Value("${email.outbox.batch-size:20}") int batchSize,
+                                 @Value("${email.outbox.retention-days:7}") long retentionDays,
+                                 @Value("${email.outbox.dead-retention-days:30}") long deadRetentionDays) {
+        this.emailOutboxService = emailOutboxService;
+        this.emailSender = emailSender;
+        this.mailExecutor = mailExecutor;
+        this.workers = new Semaphore(workerCount);
+        this.batchSize = batchSize;
+        this.retentionDays = retentionDays;
+        this.deadRetentionDays = deadRetentionDays;
+    }
+
+    // enqueue 한 트랜잭션이 커밋된 뒤 바로 발송 (트랜잭션 밖에서 호출된 경우도 포함)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnqueued(EmailOutboxService.Enqueued event) {
+        wakeUp();
+    }
+
+    // 놓친 메일, 재시도 대기 메일 발송
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        dispatch();
+    }
+
+    // 발송 완료 / 발송 포기한 지 오래된 행 정리
+    @Scheduled(cron = "${email.outbox.purge-cron:0 0 4 * * *}")
+    public void purge() {
+        LocalDateTime now = LocalDateTime.now();
+        int sent = emailOutboxService.purgeSent(now.minusDays(retentionDays));
+        int dead = emailOutboxService.purgeDead(now.minusDays(deadRetentionDays));
+        log.info("[EmailOutbox] 오래된 메일 정리 - 발송 완료 {}건, 발송 포기 {}건", sent, dead);
+    }
+
+    private void wakeUp() {
+        if (!wakeUpPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            mailExecutor.execute(() -> {
+                wakeUpPending.set(false);
+                dispatch();
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중 - 다음 poll 에서 발송
+            wakeUpPending.set(false);
+        }
+    }
+
+    // 비어 있는 worker 수만큼 batch 를 선점해서 넘김 (발송을 기다리지 않음)
+    private void dispatch() {
+        while (workers.tryAcquire()) {
+            List<EmailOutbox> batch;
+            try {
+                batch = emailOutboxService.claim(batchSize);
+            } catch (Exception e) {
+                workers.release();
+                log.warn("[EmailOutbox] 발송 대상 조회 실패", e);
+                return;
+            }
+            if (batch.isEmpty()) {
+                workers.release();
+                return;
+            }
+            try {
+                mailExecutor.execute(() -> sendBatch(batch));
+            } catch (RejectedExecutionException e) {
+                // 선점한 행은 임대 시각이 지나면 다시 발송 대상이 됨
+                workers.release();
+                return;
+            }
+        }
+    }
+
+    private void sendBatch(List<EmailOutbox> batch) {
+        try {
+            Map<MimeMessage, EmailOutbox> messages = new IdentityHashMap<>();
+            for (EmailOutbox outbox : batch) {
+                try {
+                    messages.put(toMessage(outbox), outbox);
+                } catch (MessagingException e) {
+                    // 주소 형식 오류 등은 재시도해도 실패하므로 바로 DEAD
+                    emailOutboxService.markFailed(outbox.getId(), e.getMessage(), false);
+                }
+            }
+            if (messages.isEmpty()) {
+                return;
+            }
+
+            // 메시지별 실패 (연결 실패 시 전체가 실패로 들어옴)
+            Map<Object, Exception> failed = Map.of();
+            MailException batchError = null;
+            try {
+                emailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                failed = e.getFailedMessages();
+                batchError = failed.isEmpty() ? e : null;
+            } catch (MailException e) {
+                batchError = e; // 인증 실패 등
+            }
+
+            List<Long> sent = new ArrayList<>();
+            for (Map.Entry<MimeMessage, EmailOutbox> entry : messages.entrySet()) {
+                Exception error = batchError != null ? batchError : failed.get(entry.getKey());
+                if (error == null) {
+                    sent.add(entry.getValue().getId());
+                } else {
+                    log.warn("[EmailOutbox] 이메일 발송 실패 id={} error={}", entry.getValue().getId(), error.getMessage());
+                    emailOutboxService.markFailed(entry.getValue().getId(), error.getMessage(), true);
+                }
+            }
+            emailOutboxService.markSent(sent);
+        } catch (Exception e) {
+            // 결과 기록 실패 - 임대 시각이 지나면 다시 발송됨 (중복 발송 가능)
+            log.error("[EmailOutbox] 발송 결과 기록 실패", e);
+        } finally {
+            workers.release();
+        }
+
+        // 가득 찬 batch 였으면 남은 메일이 있을 수 있으므로 이어서 발송
+        if (batch.size() == batchSize) {
+            wakeUp();
+        }
+    }
+
+    private MimeMessage toMessage(EmailOutbox outbox) throws MessagingException {
+        MimeMessage mimeMessage = emailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "utf-8");
+        helper.setTo(outbox.getRecipient());
+        helper.setSubject(outbox.getSubject());
+        helper.setText(outbox.getContent(), true);
+        return mimeMessage;
+    }
+}
@@ -0,0 +1,109 @@
+package com.phraiz.back.member.service;
+
+import com.phraiz.back.member.domain.EmailOutbox;
+import com.phraiz.back.member.enums.EmailOutboxStatus;
+import com.phraiz.back.member.repository.EmailOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 이메일 발송 대기열 (outbox) 관리
+ * - enqueue 는 호출한 트랜잭션에 함께 저장되고, 커밋 후 발송기(EmailOutboxDispatcher)를 깨움
+ * - 발송 대상 선점/결과 기록은 발송기에서 호출
+ */
+@Slf4j
+@Service
+public class EmailOutboxService {
+
+    private static final List<EmailOutboxStatus> DISPATCHABLE =
+            List.of(EmailOutboxStatus.PENDING, EmailOutboxStatus.SENDING);
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 최대 발송 시도 횟수 - 초과하면 DEAD
+    private final int maxAttempts;
+    // 재시도 간격: base * 2^(시도 횟수-1), 최대 max
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    // 선점 후 이 시간 안에 결과가 기록되지 않으면 다시 발송 대상
+    private final Duration lease;
+
+    public EmailOutboxService(EmailOutboxRepository emailOutboxRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${email.outbox.max-attempts:5}") int maxAttempts,
+                              @Value("${email.outbox.backoff-base-seconds:30}") long backoffBaseSeconds,
+                              @Value("${email.outbox.backoff-max-seconds:3600}") long backoffMaxSeconds,
+                              @Value("${email.outbox.lease-seconds:300}") long leaseSeconds) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.maxAttempts = maxAttempts;
+        this.backoffBase = Duration.ofSeconds(backoffBaseSeconds);
+        this.backoffMax = Duration.ofSeconds(backoffMaxSeconds);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+    }
+
+    // 발송 요청 이벤트 - 커밋 이후 발송기가 받아서 바로 발송 시도
+    public record Enqueued(Long id) {}
+
+    @Transactional
+    public void enqueue(String to, String subject, String content) {
+        EmailOutbox outbox = emailOutboxRepository.save(new EmailOutbox(to, subject, content));
+        eventPublisher.publishEvent(new Enqueued(outbox.getId()));
+    }
+
+    // 발송 대상 선점 - 선점한 행은 임대 시각까지 다른 발송기가 가져가지 않음
+    @Transactional
+    public List<EmailOutbox> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> claimed = emailOutboxRepository.findDispatchable(DISPATCHABLE, now, PageRequest.of(0, limit));
+        claimed.forEach(outbox -> outbox.lease(now.plus(lease)));
+        return claimed;
+    }
+
+    @Transactional
+    public void markSent(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            emailOutboxRepository.markSent(ids, LocalDateTime.now());
+        }
+    }
+
+    // 발송 실패 - retryable 이 false 거나 시도 횟수를 넘으면 DEAD
+    @Transactional
+    public void markFailed(Long id, String error, boolean retryable) {
+        emailOutboxRepository.findById(id).ifPresent(outbox -> {
+            int attempts = outbox.getAttempts() + 1;
+            LocalDateTime retryAt = retryable && attempts < maxAttempts
+                    ? LocalDateTime.now().plus(backoff(attempts))
+                    : null;
+            outbox.fail(error, retryAt);
+            if (retryAt == null) {
+                log.error("[EmailOutbox] 이메일 발송 포기 id={} attempts={} error={}", id, attempts, error);
+            }
+        });
+    }
+
+    @Transactional
+    public int purgeSent(LocalDateTime before) {
+        return emailOutboxRepository.deleteSentBefore(before);
+    }
+
+    @Transactional
+    public int purgeDead(LocalDateTime before) {
+        return emailOutboxRepository.deleteDeadBefore(before);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = backoffBase.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+    }
+}
@@ -4,27 +4,20 @@ import com.phraiz.back.common.exception.custom.BusinessLogicException;
 import com.phraiz.back.common.util.RedisUtil;
 import com.phraiz.back.member.exception.MemberErrorCode;
 import com.phraiz.back.member.repository.MemberRepository;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Random;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
 @Slf4j
 // 인증코드 생성하고 이메일 보내는 서비스
 public class EmailService {
     private static final String AUTH_KEY_PREFIX = "auth:";
     private static final String VERIFIED_KEY_PREFIX = "verified:";
-    private final JavaMailSender emailSender;
+    private final EmailOutboxService emailOutboxService;
     private final RedisUtil redisUtil;
     private final MemberRepository memberRepository;
 
@@ -39,7 +32,7 @@ public class EmailService {
     }
 
     // 랜덤 인증번호 생성-> 메일 발송
-    public void joinEmail(String email) throws MessagingException {
+    public void joinEmail(String email) {
         String authNum = makeRandNum();
         String title = "회원 가입 인증 이메일 입니다."; // 이메일 제목
         String content =
@@ -51,21 +44,8 @@ public class EmailService {
         sendMail(email, title, content,authNum);
 
     }
-    // 이메일 전송
-    public void sendMail(String to, String subject, String text, String authNum) throws MessagingException {
-
-        MimeMessage mimeMessage = emailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "utf-8");
-        helper.setTo(to);
-        helper.setSubject(subject);
-        helper.setText(text, true);
-        try {
-            emailSender.send(mimeMessage);
-        } catch (MailException e) {
-            System.err.println("이메일 전송 실패: " + e.getMessage());
-            e.printStackTrace();
-            throw new RuntimeException("이메일 전송 불가능",e);
-        }
+    // 이메일 전송 - 발송 대기열에 넣고 바로 반환 (실제 발송은 EmailOutboxDispatcher)
+    public void sendMail(String to, String subject, String text, String authNum) {
         if (authNum != null) {
             // Redis에 인증번호 저장-검증을 위함
             // 이메일이 key, 인증번호가 value
@@ -73,8 +53,7 @@ public class EmailService {
             redisUtil.setDataExpire(redisKey, authNum, 60*5L);
 
         }
-
-
+        emailOutboxService.enqueue(to, subject, text);
     }
     // 사용자가 입력한 인증 번호와 실제 인증 번호 비교
     public boolean checkAuthNum(String email, String authNum) {
@@ -0,0 +1,73 @@
+package com.phraiz.back.member.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 회원 정보 로컬 캐시 무효화 (요금제 캐시, 인증 사용자 캐시 등)
+ * - 회원 정보가 바뀌면 Redis pub/sub 으로 모든 서버에 회원 아이디를 알리고, 각 서버의 캐시가 해당 항목 삭제
+ */
+@Slf4j
+@Component
+public class MemberCacheInvalidator {
+
+    // 회원 정보 변경 알림 채널 - 메시지 본문은 회원 아이디
+    public static final String CHANNEL = "member:invalidate";
+
+    private final StringRedisTemplate redisTemplate;
+    private final List<Consumer<String>> localListeners = new CopyOnWriteArrayList<>();
+
+    public MemberCacheInvalidator(StringRedisTemplate redisTemplate,
+                                  RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(
+                (message, pattern) -> notifyLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+    }
+
+    // 캐시 등록 - 무효화 시 회원 아이디로 호출됨
+    public void addListener(Consumer<String> listener) {
+        localListeners.add(listener);
+    }
+
+    /**
+     * 무효화 - 트랜잭션 안이면 커밋 이후에 무효화해야 다른 요청이 이전 값을 다시 캐시하지 않음
+     */
+    public void invalidate(String id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(id);
+                }
+            });
+            return;
+        }
+        publish(id);
+    }
+
+    private void publish(String id) {
+        // 이 서버는 바로 반영
+        notifyLocal(id);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, id);
+        } catch (Exception e) {
+            // 다른 서버는 TTL 만료 후 반영됨
+            log.warn("[MemberCache] 무효화 메시지 발행 실패 id={}", id, e);
+        }
+    }
+
+    private void notifyLocal(String id) {
+        localListeners.forEach(listener -> listener.accept(id));
+    }
+}
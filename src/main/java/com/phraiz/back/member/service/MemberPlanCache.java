@@ -0,0 +1,49 @@
+package com.phraiz.back.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.phraiz.back.common.enums.Plan;
+import com.phraiz.back.common.exception.custom.BusinessLogicException;
+import com.phraiz.back.member.exception.MemberErrorCode;
+import com.phraiz.back.member.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 회원 요금제 조회 캐시 (요약/패러프레이징/인용 요청마다 반복되던 member 조회 제거)
+ * - 서버 로컬 Caffeine 캐시 (짧은 TTL)
+ * - 요금제 변경 시 MemberCacheInvalidator(Redis pub/sub)로 모든 서버의 캐시 무효화
+ * - 적중/미스 수는 cache.gets{cache=member_plan} 메트릭으로 확인
+ */
+@Service
+public class MemberPlanCache {
+
+    private final MemberRepository memberRepository;
+    private final Cache<String, Plan> cache;
+
+    public MemberPlanCache(MemberRepository memberRepository,
+                           MemberCacheInvalidator invalidator,
+                           MeterRegistry meterRegistry,
+                           @Value("${member.plan-cache.max-size:10000}") long maxSize,
+                           @Value("${member.plan-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.memberRepository = memberRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "member_plan");
+        invalidator.addListener(cache::invalidate);
+    }
+
+    // 회원 아이디로 요금제 조회 - 캐시 미스 시 planId 만 조회
+    public Plan getPlan(String id) {
+        return cache.get(id, key -> memberRepository.findPlanIdById(key)
+                .map(Plan::fromId)
+                .orElseThrow(() -> new BusinessLogicException(MemberErrorCode.USER_NOT_FOUND)));
+    }
+}
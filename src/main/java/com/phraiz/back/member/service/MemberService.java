@@ -12,7 +12,6 @@ import com.phraiz.back.member.dto.response.SignUpResponseDTO;
 import com.phraiz.back.member.enums.LoginType;
 import com.phraiz.back.member.exception.MemberErrorCode;
 import com.phraiz.back.member.repository.MemberRepository;
-import jakarta.mail.MessagingException;
 import jakarta.servlet.http.Cookie;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,6 +41,8 @@ public class MemberService {
     private RedisTemplate<String, String> redisTemplate;
     @Autowired
     private EmailService emailService;
+    @Autowired
+    private MemberCacheInvalidator memberCacheInvalidator;
 
     // token 재발급-RTR 방식으로
     public LoginResponseDTO reissueToken(String refreshToken) {
@@ -49,13 +50,13 @@ public class MemberService {
 //        if (!jwtUtil.validateToken(refreshToken)) {
 //            throw new BusinessLogicException(MemberErrorCode.INVALID_REFRESH_TOKEN);
 //        }
+        String id; // 사용자의 고유 아이디
         try {
-            jwtUtil.validateToken(refreshToken);
+            id = jwtUtil.parse(refreshToken).subject();
         } catch (JwtException e) {
             throw new InvalidRefreshTokenException("유효하지 않은 리프레시 토큰입니다.");
         }
 
-        String id=jwtUtil.getSubjectFromToken(refreshToken); // 사용자의 고유 아이디
         Member member = memberRepository.findById(id).orElseThrow(()-> new BusinessLogicException(MemberErrorCode.USER_NOT_FOUND));
 
         // redis 에 저장된 refresh 토큰과 일치확인
@@ -103,6 +104,8 @@ public class MemberService {
         // 식별자로 사용자 조회
         Member member=memberRepository.findByMemberId(memberId).orElseThrow(()->new BusinessLogicException(MemberErrorCode.USER_NOT_FOUND));
         member.setPlanId(planId);
+        // 커밋 이후 모든 서버의 요금제/인증 사용자 캐시 무효화
+        memberCacheInvalidator.invalidate(member.getId());
     }
 
 
@@ -181,11 +184,7 @@ public class MemberService {
                             "아이디는 <b>" + id + "</b>입니다." +
                             "<br>" ; //이메일 내용 삽입
 
-        try {
-            emailService.sendMail(email,title,content,null);
-        } catch (MessagingException e) {
-            throw new RuntimeException("이메일 전송 실패",e);
-        }
+        emailService.sendMail(email,title,content,null);
     }
 
     // 2-4. 비밀번호 찾기
@@ -230,11 +229,7 @@ public class MemberService {
                         "<br><br>" ; //이메일 내용 삽입
 
 
-        try {
-            emailService.sendMail(email,title,content,null);
-        } catch (MessagingException e) {
-            throw new RuntimeException("이메일 전송 실패",e);
-        }
+        emailService.sendMail(email,title,content,null);
 
     }
 
@@ -269,6 +264,8 @@ public class MemberService {
         // 비밀번호 암호화
         member.setPwd(bCryptPasswordEncoder.encode(newPwd));
         memberRepository.save(member);
+        // 인증 사용자 캐시 무효화
+        memberCacheInvalidator.invalidate(member.getId());
 
         // 4. 토큰 삭제 (1회성)
         redisTemplate.delete("PWD_RESET:" + token);
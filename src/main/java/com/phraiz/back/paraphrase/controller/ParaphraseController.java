@@ -2,8 +2,9 @@ package com.phraiz.back.paraphrase.controller;
 
 import com.phraiz.back.common.dto.request.HistoryUpdateDTO;
 import com.phraiz.back.common.dto.request.UpdateRequestDTO;
+import com.phraiz.back.common.dto.response.CursorPageDTO;
 import com.phraiz.back.common.dto.response.FoldersResponseDTO;
-import com.phraiz.back.common.dto.response.HistoriesResponseDTO;
+import com.phraiz.back.common.dto.response.HistoryListItemDTO;
 import com.phraiz.back.common.dto.response.HistoryContentResponseDTO;
 import com.phraiz.back.common.security.user.CustomUserDetails;
 import com.phraiz.back.common.util.SecurityUtil;
@@ -17,10 +18,14 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -43,61 +48,64 @@ public class ParaphraseController {
     // 1. 모드 별 패러프레이징
     // 1-1. 표준 모드
     @PostMapping("/paraphrasing/standard")
-    public ResponseEntity<?> paraphraseStandard(HttpServletRequest request, HttpServletResponse response,
+    public CompletableFuture<ResponseEntity<ParaphraseResponseDTO>> paraphraseStandard(HttpServletRequest request, HttpServletResponse response,
                                                 @RequestBody ParaphraseRequestDTO dto) {
         // 로그인한 유저의 ID
         String memberId = SecurityUtil.getCurrentMemberId();
         //String memberId = "user01";
-        ParaphraseResponseDTO result = paraphraseService.paraphraseStandard(memberId, dto);
-        return ResponseEntity.ok(result);
+        return paraphraseService.paraphraseStandard(memberId, dto).thenApply(ResponseEntity::ok);
     }
 
     // 1-2. 학술적 모드
     @PostMapping("/paraphrasing/academic")
-    public ResponseEntity<?> paraphraseAcademic(HttpServletRequest request, HttpServletResponse response,
+    public CompletableFuture<ResponseEntity<ParaphraseResponseDTO>> paraphraseAcademic(HttpServletRequest request, HttpServletResponse response,
                                                 @RequestBody ParaphraseRequestDTO dto) {
         String memberId = SecurityUtil.getCurrentMemberId();
-        ParaphraseResponseDTO result = paraphraseService.paraphraseAcademic(memberId, dto);
-        return ResponseEntity.ok(result);
+        return paraphraseService.paraphraseAcademic(memberId, dto).thenApply(ResponseEntity::ok);
     }
 
     // 1-3. 창의적 모드
     @PostMapping("/paraphrasing/creative")
-    public ResponseEntity<?> paraphraseCreative(HttpServletRequest request, HttpServletResponse response,
+    public CompletableFuture<ResponseEntity<ParaphraseResponseDTO>> paraphraseCreative(HttpServletRequest request, HttpServletResponse response,
                                                 @RequestBody ParaphraseRequestDTO dto) {
         String memberId = SecurityUtil.getCurrentMemberId();
-        ParaphraseResponseDTO result = paraphraseService.paraphraseCreative(memberId, dto);
-        return ResponseEntity.ok(result);
+        return paraphraseService.paraphraseCreative(memberId, dto).thenApply(ResponseEntity::ok);
     }
 
     // 1-4. 유창한 모드
     @PostMapping("/paraphrasing/fluency")
-    public ResponseEntity<?> paraphraseFluency(HttpServletRequest request, HttpServletResponse response,
+    public CompletableFuture<ResponseEntity<ParaphraseResponseDTO>> paraphraseFluency(HttpServletRequest request, HttpServletResponse response,
                                                @RequestBody ParaphraseRequestDTO dto) {
         String memberId = SecurityUtil.getCurrentMemberId();
-        ParaphraseResponseDTO result = paraphraseService.paraphraseFluency(memberId, dto);
-        return ResponseEntity.ok(result);
+        return paraphraseService.paraphraseFluency(memberId, dto).thenApply(ResponseEntity::ok);
     }
 
     // 1-5. 실험적 모드
     @PostMapping("/paraphrasing/experimental")
-    public ResponseEntity<?> paraphraseExperimental(HttpServletRequest request, HttpServletResponse response,
+    public CompletableFuture<ResponseEntity<ParaphraseResponseDTO>> paraphraseExperimental(HttpServletRequest request, HttpServletResponse response,
                                                     @RequestBody ParaphraseRequestDTO dto) {
         String memberId = SecurityUtil.getCurrentMemberId();
-        ParaphraseResponseDTO result = paraphraseService.paraphraseExperimental(memberId, dto);
-        return ResponseEntity.ok(result);
+        return paraphraseService.paraphraseExperimental(memberId, dto).thenApply(ResponseEntity::ok);
     }
 
     // 1-6. 사용자 지정 모드
     @PostMapping("/paraphrasing/custom")
-    public ResponseEntity<?> paraphraseCustom(HttpServletRequest request, HttpServletResponse response,
+    public CompletableFuture<ResponseEntity<ParaphraseResponseDTO>> paraphraseCustom(HttpServletRequest request, HttpServletResponse response,
                                               @RequestBody ParaphraseRequestDTO dto) {
         String memberId = SecurityUtil.getCurrentMemberId();
-        ParaphraseResponseDTO result = paraphraseService.paraphraseCustom(memberId, dto);
-        return ResponseEntity.ok(result);
+        return paraphraseService.paraphraseCustom(memberId, dto).thenApply(ResponseEntity::ok);
     }
 
 
+    // 1-7. 스트리밍 패러프레이징 (SSE) - mode: standard, academic, creative, fluency, experimental, custom
+    //      delta 이벤트로 생성 중인 텍스트를 보내고, 저장이 끝나면 done 이벤트로 최종 결과 전달
+    @PostMapping(value = "/paraphrasing/{mode}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamParaphrase(@PathVariable String mode,
+                                       @RequestBody ParaphraseRequestDTO dto) {
+        String memberId = SecurityUtil.getCurrentMemberId();
+        return paraphraseService.streamParaphrase(memberId, mode, dto);
+    }
+
     /* ---------- 2. 폴더 ---------- */
 
     // 2-1. 폴더 목록 (page,size optional)
@@ -110,6 +118,16 @@ public class ParaphraseController {
         return paraphraseFolderService.getFolders(memberId, page, size);
     }
 
+    // 2-1-1. 폴더 목록 (커서 기반, 첫 요청은 cursor 생략)
+    @GetMapping("/folders/cursor")
+    public CursorPageDTO<FoldersResponseDTO> getFoldersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        String memberId = SecurityUtil.getCurrentMemberId();
+        return paraphraseFolderService.getFoldersByCursor(memberId, cursor, size);
+    }
+
     // 2-2. 폴더 생성
     @PostMapping("/folders")
     public ResponseEntity<Void> createFolder(@RequestBody UpdateRequestDTO dto) {
@@ -139,14 +157,24 @@ public class ParaphraseController {
 
     // 3-1. 히스토리 목록 (page,size optional)
     @GetMapping("/histories")
-    public Page<HistoriesResponseDTO> getHistories(@RequestParam(required = false) Long folderId,
-                                                   @RequestParam(defaultValue = "0") int page,
-                                                   @RequestParam(defaultValue = "5") int size) {
+    public Page<HistoryListItemDTO> getHistories(@RequestParam(required = false) Long folderId,
+                                                 @RequestParam(defaultValue = "0") int page,
+                                                 @RequestParam(defaultValue = "5") int size) {
 
         String memberId = SecurityUtil.getCurrentMemberId();
         return paraphraseHistoryService.getHistories(memberId, folderId, page, size);
     }
 
+    // 3-1-1. 히스토리 목록 (커서 기반, 첫 요청은 cursor 생략)
+    @GetMapping("/histories/cursor")
+    public CursorPageDTO<HistoryListItemDTO> getHistoriesByCursor(@RequestParam(required = false) Long folderId,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(defaultValue = "5") int size) {
+
+        String memberId = SecurityUtil.getCurrentMemberId();
+        return paraphraseHistoryService.getHistoriesByCursor(memberId, folderId, cursor, size);
+    }
+
     // 3-2. 히스토리 생성
     @PostMapping("/histories")
     public ResponseEntity<Void> createHistory(@RequestParam(required = false) Long folderId,
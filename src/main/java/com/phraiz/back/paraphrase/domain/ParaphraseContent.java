@@ -9,7 +9,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "paraphrase_contents")
+@Table(
+        name = "paraphrase_contents",
+        uniqueConstraints = @UniqueConstraint(name = "uq_paraphrase_contents_history_seq", columnNames = {"history_id", "sequence_number"})
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ParaphraseContent {
@@ -2,13 +2,17 @@ package com.phraiz.back.paraphrase.domain;
 
 import com.phraiz.back.common.domain.BaseFolder;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
 @Entity
-@Table(name = "paraphrase_folder")
+@Table(
+        name = "paraphrase_folder",
+        indexes = @Index(name = "idx_paraphrase_folder_cursor", columnList = "member_id, created_at, id") // 커서 기반 목록
+)
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ParaphraseFolder extends BaseFolder {
@@ -1,5 +1,7 @@
 package com.phraiz.back.paraphrase.enums;
 
+import com.phraiz.back.common.exception.custom.BusinessLogicException;
+import com.phraiz.back.paraphrase.exception.ParaphraseErrorCode;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -15,4 +17,13 @@ public enum ParaphrasePrompt {
 
     private final String prompt;
 
+    // "standard", "academic" 등 API 모드 이름으로 조회 (사용자 지정 모드 custom 은 제외)
+    public static ParaphrasePrompt fromMode(String mode) {
+        try {
+            return valueOf(mode.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessLogicException(ParaphraseErrorCode.INVALID_MODE);
+        }
+    }
+
 }
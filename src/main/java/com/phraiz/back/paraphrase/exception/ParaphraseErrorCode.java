@@ -18,6 +18,9 @@ public enum ParaphraseErrorCode implements ErrorCode {
     
     HISTORY_NOT_FOUND(404, "CLT005", "히스토리를 찾을 수 없습니다.", "PARAPHRASE"),
     CONTENT_NOT_FOUND(404, "CLT006", "요청한 내용을 찾을 수 없습니다.", "PARAPHRASE"),
+
+    // 패러프레이징 모드 관련
+    INVALID_MODE(400, "PARAPHRASE401", "잘못된 패러프레이징 모드입니다.", "PARAPHRASE_PROCESS"),
     
     // 보안 위협
     CSRF_ATTACK_DETECTED(403, "SEC009", "위조된 요청이 감지되었습니다.", "SECURITY"),
@@ -2,6 +2,7 @@ package com.phraiz.back.paraphrase.repository;
 
 import com.phraiz.back.paraphrase.domain.ParaphraseContent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -24,4 +25,9 @@ public interface ParaphraseContentRepository extends JpaRepository<ParaphraseCon
     // 특정 history의 content 개수
     @Query("SELECT COUNT(pc) FROM ParaphraseContent pc WHERE pc.history.id = :historyId")
     Long countByHistoryId(@Param("historyId") Long historyId);
+
+    // 최신 N개만 남기고 삭제 - sequenceNumber 가 threshold 이하인 content 를 한 번에 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ParaphraseContent pc WHERE pc.history.id = :historyId AND pc.sequenceNumber <= :threshold")
+    int deleteUpToSequenceNumber(@Param("historyId") Long historyId, @Param("threshold") int threshold);
 }
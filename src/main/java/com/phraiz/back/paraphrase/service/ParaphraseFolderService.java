@@ -5,9 +5,7 @@ import com.phraiz.back.common.enums.Plan;
 import com.phraiz.back.common.exception.custom.BusinessLogicException;
 import com.phraiz.back.common.repository.BaseFolderRepository;
 import com.phraiz.back.common.service.AbstractFolderService;
-import com.phraiz.back.member.domain.Member;
-import com.phraiz.back.member.exception.MemberErrorCode;
-import com.phraiz.back.member.repository.MemberRepository;
+import com.phraiz.back.member.service.MemberPlanCache;
 import com.phraiz.back.paraphrase.domain.ParaphraseFolder;
 import com.phraiz.back.paraphrase.exception.ParaphraseErrorCode;
 import lombok.extern.slf4j.Slf4j;
@@ -21,11 +19,11 @@ import java.util.Collections;
 @Slf4j
 public class ParaphraseFolderService extends AbstractFolderService<ParaphraseFolder> {
 
-    private final MemberRepository memberRepository;
+    private final MemberPlanCache memberPlanCache;
 
-    protected ParaphraseFolderService(BaseFolderRepository<ParaphraseFolder> repo, MemberRepository memberRepository) {
+    protected ParaphraseFolderService(BaseFolderRepository<ParaphraseFolder> repo, MemberPlanCache memberPlanCache) {
         super(repo);
-        this.memberRepository = memberRepository;
+        this.memberPlanCache = memberPlanCache;
     }
 
     @Override
@@ -52,8 +50,7 @@ public class ParaphraseFolderService extends AbstractFolderService<ParaphraseFol
 
     @Override
     protected void validateCreateFolder(String memberId) {
-        Member member=memberRepository.findById(memberId).orElseThrow(()->new BusinessLogicException(MemberErrorCode.USER_NOT_FOUND));
-        Plan userPlan = Plan.fromId(member.getPlanId());
+        Plan userPlan = memberPlanCache.getPlan(memberId);
         if(userPlan == Plan.FREE){
             throw new BusinessLogicException(ParaphraseErrorCode.PLAN_NOT_ACCESSED);
         }
@@ -1,15 +1,13 @@
 package com.phraiz.back.paraphrase.service;
 
-import com.phraiz.back.common.dto.response.HistoriesResponseDTO;
 import com.phraiz.back.common.enums.Plan;
 import com.phraiz.back.common.exception.custom.BusinessLogicException;
 import com.phraiz.back.common.repository.BaseHistoryRepository;
 import com.phraiz.back.common.service.AbstractHistoryService;
-import com.phraiz.back.member.domain.Member;
-import com.phraiz.back.member.exception.MemberErrorCode;
-import com.phraiz.back.member.repository.MemberRepository;
+import com.phraiz.back.member.service.MemberPlanCache;
 import com.phraiz.back.paraphrase.domain.ParaphraseContent;
 import com.phraiz.back.paraphrase.domain.ParaphraseHistory;
+import com.phraiz.back.common.domain.BaseHistory;
 import com.phraiz.back.common.dto.response.HistoryMetaDTO;
 import com.phraiz.back.paraphrase.dto.response.ParaphraseResponseDTO;
 import com.phraiz.back.paraphrase.exception.ParaphraseErrorCode;
@@ -22,14 +20,13 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.Collections;
 
 @Service
 @Transactional
 @Slf4j
 public class ParaphraseHistoryService extends AbstractHistoryService<ParaphraseHistory> {
 
-    private final MemberRepository memberRepository;
+    private final MemberPlanCache memberPlanCache;
     private final ParaphraseContentRepository paraphraseContentRepository;
 
     private final int MAX_HISTORY_FOR_FREE = 30;
@@ -38,26 +35,13 @@ public class ParaphraseHistoryService extends AbstractHistoryService<ParaphraseH
 
 
     protected ParaphraseHistoryService(BaseHistoryRepository<ParaphraseHistory> repo, 
-                                      MemberRepository memberRepository,
+                                      MemberPlanCache memberPlanCache,
                                       ParaphraseContentRepository paraphraseContentRepository) {
         super(repo);
-        this.memberRepository = memberRepository;
+        this.memberPlanCache = memberPlanCache;
         this.paraphraseContentRepository = paraphraseContentRepository;
     }
 
-    @Override
-    protected HistoriesResponseDTO toDTO(ParaphraseHistory entity) {
-        HistoriesResponseDTO.Histories historyItem = HistoriesResponseDTO.Histories.builder()
-                .id(entity.getId())
-                .name(entity.getName())
-                .lastUpdate(entity.getLastUpdate())
-                .build();
-
-        return HistoriesResponseDTO.builder()
-                .histories(Collections.singletonList(historyItem))
-                .build();
-    }
-
     @Override
     protected ParaphraseHistory newHistoryEntity(String memberId, Long folderId, String name) {
         return ParaphraseHistory.builder()
@@ -69,8 +53,7 @@ public class ParaphraseHistoryService extends AbstractHistoryService<ParaphraseH
 
     @Override
     protected void validateRemainingHistoryCount(String memberId) {
-        Member member=memberRepository.findById(memberId).orElseThrow(()->new BusinessLogicException(MemberErrorCode.USER_NOT_FOUND));
-        Plan userPlan = Plan.fromId(member.getPlanId());
+        Plan userPlan = memberPlanCache.getPlan(memberId);
         if(userPlan == Plan.FREE){
             long currentCount = repo.countByMemberId(memberId);
 
@@ -101,6 +84,45 @@ public class ParaphraseHistoryService extends AbstractHistoryService<ParaphraseH
         return newHistory;
     }
 
+    // 패러프레이징 결과를 히스토리에 content 로 저장 (historyId 가 없으면 새 히스토리 생성)
+    // - ParaphraseService 의 일반/스트리밍 패러프레이징 모두 이 메서드로 저장
+    public HistoryMetaDTO appendContent(String memberId, Long folderId, Long historyId,
+                                        String originalText, String paraphrasedText, int scale,
+                                        String mode, String paraphraseMode) {
+        ParaphraseHistory history;
+        Integer nextSequenceNumber;
+
+        if (historyId != null) {
+            // 기존 히스토리에 content 추가
+            history = repo.findByIdAndMemberId(historyId, memberId)
+                    .orElseThrow(() -> new BusinessLogicException(ParaphraseErrorCode.HISTORY_NOT_FOUND));
+
+            // 카운터로 다음 sequence number 발급 후, 최신 MAX_CONTENTS 개를 넘는 오래된 content 를 한 번에 삭제
+            nextSequenceNumber = allocateSequenceNumber(historyId);
+            paraphraseContentRepository.deleteUpToSequenceNumber(historyId, nextSequenceNumber - BaseHistory.MAX_CONTENTS);
+        } else {
+            // 새 히스토리 생성
+            history = createNewHistory(memberId, folderId);
+            nextSequenceNumber = allocateSequenceNumber(history.getId());
+        }
+
+        // Content 생성 및 저장 - 사용자 지정모드는 따로 모드 세부 내용 저장
+        ParaphraseContent content = ParaphraseContent.builder()
+                .history(history)
+                .originalText(originalText)
+                .paraphrasedText(paraphrasedText)
+                .sequenceNumber(nextSequenceNumber)
+                .scale(scale)
+                .mode(mode)
+                .userRequestMode(mode.equals("custom") ? paraphraseMode : null)
+                .build();
+
+        paraphraseContentRepository.save(content);
+
+        // HistoryMetaDTO 반환
+        return new HistoryMetaDTO(history.getId(), history.getName(), nextSequenceNumber);
+    }
+
     // 히스토리 content 조회 (sequenceNumber 지정 가능, null이면 최신 조회)
     public ParaphraseResponseDTO readHistoryContent(String memberId, Long historyId, Integer sequenceNumber) {
         // 1. 히스토리 존재 및 권한 확인
@@ -1,71 +1,68 @@
 package com.phraiz.back.paraphrase.service;
 
+import com.phraiz.back.common.config.GptConfig;
 import com.phraiz.back.common.dto.response.HistoryMetaDTO;
+import com.phraiz.back.common.dto.response.OpenAIResultDTO;
 import com.phraiz.back.common.exception.custom.BusinessLogicException;
-import com.phraiz.back.common.service.MonthlyTokenUsageService;
+import com.phraiz.back.common.service.LlmExecutionService;
 import com.phraiz.back.common.service.OpenAIService;
-import com.phraiz.back.common.service.RedisService;
+import com.phraiz.back.common.service.TokenQuotaService;
+import com.phraiz.back.common.service.TokenUsageWriteBehindService;
+import com.phraiz.back.common.service.SseStreamService;
 import com.phraiz.back.common.enums.Plan;
 import com.phraiz.back.common.util.GptTokenUtil;
-import com.phraiz.back.member.domain.Member;
-import com.phraiz.back.member.exception.MemberErrorCode;
-import com.phraiz.back.member.repository.MemberRepository;
-import com.phraiz.back.paraphrase.domain.ParaphraseContent;
-import com.phraiz.back.paraphrase.domain.ParaphraseHistory;
+import com.phraiz.back.member.service.MemberPlanCache;
 import com.phraiz.back.paraphrase.dto.request.ParaphraseRequestDTO;
 import com.phraiz.back.paraphrase.dto.response.ParaphraseResponseDTO;
 import com.phraiz.back.paraphrase.enums.ParaphrasePrompt;
 import com.phraiz.back.paraphrase.exception.ParaphraseErrorCode;
-import com.phraiz.back.paraphrase.repository.ParaphraseContentRepository;
-import com.phraiz.back.paraphrase.repository.ParaphraseHistoryRepository;
 import com.phraiz.back.summary.exception.SummaryErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.Nullable;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.time.YearMonth;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class ParaphraseService {
 
     private final OpenAIService openAIService;
-    private final RedisService redisService;
+    private final GptConfig gptConfig;
+    private final TokenQuotaService tokenQuotaService;
     private final ParaphraseHistoryService paraphraseHistoryService;
-    private final ParaphraseContentRepository paraphraseContentRepository;
-    private final ParaphraseHistoryRepository paraphraseHistoryRepository;
-    private final MonthlyTokenUsageService tokenUsageService;
-    private final MemberRepository memberRepository;
+    private final TokenUsageWriteBehindService tokenUsageWriteBehindService;
+    private final MemberPlanCache memberPlanCache;
+    private final SseStreamService sseStreamService;
+    private final LlmExecutionService llmExecutionService;
 
-    public ParaphraseResponseDTO paraphraseStandard(String memberId, ParaphraseRequestDTO paraphraseRequestDTO){
+    public CompletableFuture<ParaphraseResponseDTO> paraphraseStandard(String memberId, ParaphraseRequestDTO paraphraseRequestDTO){
         return paraphrase(memberId, paraphraseRequestDTO.getText(), ParaphrasePrompt.STANDARD.getPrompt(), paraphraseRequestDTO.getScale(),
                 paraphraseRequestDTO.getFolderId(), paraphraseRequestDTO.getHistoryId(), "standard");
     }
-    public ParaphraseResponseDTO paraphraseAcademic(String memberId, ParaphraseRequestDTO paraphraseRequestDTO){
+    public CompletableFuture<ParaphraseResponseDTO> paraphraseAcademic(String memberId, ParaphraseRequestDTO paraphraseRequestDTO){
         return paraphrase(memberId, paraphraseRequestDTO.getText(), ParaphrasePrompt.ACADEMIC.getPrompt(), paraphraseRequestDTO.getScale(),
                 paraphraseRequestDTO.getFolderId(), paraphraseRequestDTO.getHistoryId(), "academic");
     }
-    public ParaphraseResponseDTO paraphraseCreative(String memberId, ParaphraseRequestDTO paraphraseRequestDTO){
+    public CompletableFuture<ParaphraseResponseDTO> paraphraseCreative(String memberId, ParaphraseRequestDTO paraphraseRequestDTO){
         return paraphrase(memberId, paraphraseRequestDTO.getText(), ParaphrasePrompt.CREATIVE.getPrompt(), paraphraseRequestDTO.getScale(),
                 paraphraseRequestDTO.getFolderId(), paraphraseRequestDTO.getHistoryId(), "creative");
     }
-    public ParaphraseResponseDTO paraphraseFluency(String memberId, ParaphraseRequestDTO paraphraseRequestDTO){
+    public CompletableFuture<ParaphraseResponseDTO> paraphraseFluency(String memberId, ParaphraseRequestDTO paraphraseRequestDTO){
         return paraphrase(memberId, paraphraseRequestDTO.getText(), ParaphrasePrompt.FLUENCY.getPrompt(), paraphraseRequestDTO.getScale(),
                 paraphraseRequestDTO.getFolderId(), paraphraseRequestDTO.getHistoryId(), "fluency");
     }
-    public ParaphraseResponseDTO paraphraseExperimental(String memberId, ParaphraseRequestDTO paraphraseRequestDTO){
+    public CompletableFuture<ParaphraseResponseDTO> paraphraseExperimental(String memberId, ParaphraseRequestDTO paraphraseRequestDTO){
         return paraphrase(memberId, paraphraseRequestDTO.getText(), ParaphrasePrompt.EXPERIMENTAL.getPrompt(), paraphraseRequestDTO.getScale(),
                 paraphraseRequestDTO.getFolderId(), paraphraseRequestDTO.getHistoryId(), "experimental");
     }
-    public ParaphraseResponseDTO paraphraseCustom(String memberId, ParaphraseRequestDTO paraphraseRequestDTO){
+    public CompletableFuture<ParaphraseResponseDTO> paraphraseCustom(String memberId, ParaphraseRequestDTO paraphraseRequestDTO){
         // free 요금제 사용자는 사용 불가능
-        Member member=memberRepository.findById(memberId).orElseThrow(()->new BusinessLogicException(MemberErrorCode.USER_NOT_FOUND));
-        Plan userPlan = Plan.fromId(member.getPlanId());
+        Plan userPlan = memberPlanCache.getPlan(memberId);
         if(userPlan == Plan.FREE){
             throw new BusinessLogicException(SummaryErrorCode.PLAN_NOT_ACCESSED);
         }
@@ -79,153 +76,139 @@ public class ParaphraseService {
                 paraphraseRequestDTO.getFolderId(), paraphraseRequestDTO.getHistoryId(), "custom");
     }
 
-    // 1. paraphrase 메서드
-    private ParaphraseResponseDTO paraphrase(String memberId,
-                                             String paraphraseRequestedText,
-                                             String paraphraseMode, int scale,
-                                             Long folderId,
-                                             Long historyId,
-                                             String mode
-                                             ){
-        long remainingToken = 0;
+    // 스트리밍 패러프레이징 - mode: standard, academic, creative, fluency, experimental, custom
+    public SseEmitter streamParaphrase(String memberId, String mode, ParaphraseRequestDTO paraphraseRequestDTO){
+        String paraphraseMode;
+        if (mode.equals("custom")) {
+            // free 요금제 사용자는 사용 불가능
+            if(findMemberPlan(memberId) == Plan.FREE){
+                throw new BusinessLogicException(SummaryErrorCode.PLAN_NOT_ACCESSED);
+            }
+            paraphraseMode = paraphraseRequestDTO.getUserRequestMode();
+            if(paraphraseMode == null){
+                throw new BusinessLogicException(ParaphraseErrorCode.INVALID_INPUT);
+            }
+        } else {
+            paraphraseMode = ParaphrasePrompt.fromMode(mode).getPrompt();
+        }
 
+        // 요금제/남은 토큰 검증은 스트림 시작 전에 수행 (실패 시 일반 에러 응답)
+        String text = paraphraseRequestDTO.getText();
+        int scale = paraphraseRequestDTO.getScale();
+        Plan userPlan = findMemberPlan(memberId);
+        TokenQuotaService.Reservation reservation = reserveMemberTokens(memberId, userPlan, text);
+
+        return sseStreamService.stream(userPlan,
+                onDelta -> openAIService.streamParaphraseOpenAI(text, paraphraseMode, scale, onDelta),
+                result -> saveParaphraseResult(memberId, text, result, paraphraseMode, scale,
+                        paraphraseRequestDTO.getFolderId(), paraphraseRequestDTO.getHistoryId(), mode, userPlan, reservation),
+                () -> tokenQuotaService.refund(reservation)
+        );
+    }
+
+    // 1. paraphrase 메서드
+    //  - 읽기(요금제/남은 토큰 확인) -> 원격 호출(트랜잭션 없음) -> 쓰기(content 는 짧은 트랜잭션, 사용량은 Redis 스트림) 3단계
+    //  - 서비스 전체에 @Transactional 을 걸지 않아 OpenAI 응답을 기다리는 동안 DB 커넥션을 잡지 않음
+    private CompletableFuture<ParaphraseResponseDTO> paraphrase(String memberId,
+                                                                String paraphraseRequestedText,
+                                                                String paraphraseMode, int scale,
+                                                                Long folderId,
+                                                                Long historyId,
+                                                                String mode
+                                                                ){
         // 1. 로그인한 멤버 정보 가져오기 - 멤버의 요금제 정보
-        Member member=memberRepository.findById(memberId).orElseThrow(()->new BusinessLogicException(MemberErrorCode.USER_NOT_FOUND));
-
-        // 2. 요금제 정책에 따라 다음 로직 분기
-        // 2-1. 남은 월 토큰 확인 (DB나 Redis에서 누적 사용량 조회)
-        Plan userPlan = Plan.fromId(member.getPlanId());
-        if(userPlan != Plan.PRO){
-            // 남은 토큰 < 요청 토큰의 경우 예외 발생
-            remainingToken = validateRemainingMonthlyTokens(memberId, userPlan, paraphraseRequestedText);
-        }
+        Plan userPlan = findMemberPlan(memberId);
+
+        // 2. 남은 월 토큰 확인 + 예상 토큰 선차감 (Redis Lua 스크립트로 원자적 처리)
+        TokenQuotaService.Reservation reservation = reserveMemberTokens(memberId, userPlan, paraphraseRequestedText);
 
         // 3. paraphrase 처리 (service 호출)
-        String result = openAIService.callParaphraseOpenAI(paraphraseRequestedText, paraphraseMode, scale);
+        //    - llmExecutor 에서 실행하여 톰캣 요청 스레드와 DB 커넥션을 OpenAI 응답 동안 붙잡지 않음
+        //    - 요금제별 동시 실행 한도 초과 시 429
+        CompletableFuture<ParaphraseResponseDTO> future;
+        try {
+            future = llmExecutionService.submit(userPlan, () -> {
+                OpenAIResultDTO result = openAIService.callParaphraseOpenAI(paraphraseRequestedText, paraphraseMode, scale);
+
+                // 4~6. 저장 및 사용량 반영
+                return saveParaphraseResult(memberId, paraphraseRequestedText, result, paraphraseMode, scale,
+                        folderId, historyId, mode, userPlan, reservation);
+            });
+        } catch (RuntimeException e) {
+            // 동시 실행 한도 초과 등으로 시작하지 못한 경우 선차감 반환
+            tokenQuotaService.refund(reservation);
+            throw e;
+        }
+
+        // 실패 시 선차감 반환 (저장까지 끝난 요청은 이미 보정되어 무시됨)
+        return future.whenComplete((response, ex) -> {
+            if (ex != null) {
+                tokenQuotaService.refund(reservation);
+            }
+        });
+    }
+
+    private Plan findMemberPlan(String memberId){
+        return memberPlanCache.getPlan(memberId);
+    }
 
-        // 4. 내용 저장 (Content로 저장)
-        HistoryMetaDTO metaDTO = saveParaphraseContent(  // ★ 변경됨
+    // 2. 남은 월 토큰 확인 + 예상 토큰(입력 텍스트) 선차감 - 한도 초과 시 예외
+    //    - PRO 도 사용량 집계를 위해 선차감 (한도는 사실상 무제한)
+    private TokenQuotaService.Reservation reserveMemberTokens(String memberId, Plan userPlan, String text){
+        int requestedTokens = GptTokenUtil.countTokens(text);
+        TokenQuotaService.Reservation reservation = tokenQuotaService.reserve(memberId, userPlan, requestedTokens);
+        if (!reservation.isGranted()) {
+            throw new BusinessLogicException(ParaphraseErrorCode.MONTHLY_TOKEN_LIMIT_EXCEEDED, String.format("월 토큰 한도를 초과하였습니다. (요청: %d, 남음: %d)", requestedTokens, reservation.getRemaining()));
+        }
+        return reservation;
+    }
+
+    // 4~6. 패러프레이징 결과 저장, 사용량 업데이트, 응답 생성
+    private ParaphraseResponseDTO saveParaphraseResult(String memberId, String paraphraseRequestedText, OpenAIResultDTO result,
+                                                       String paraphraseMode, int scale,
+                                                       Long folderId, Long historyId, String mode,
+                                                       Plan userPlan, TokenQuotaService.Reservation reservation){
+        // 4~5. 내용 저장(Content) + 월 토큰 사용량 기록
+        //      - content 만 OpenAI 응답을 받은 뒤 appendContent 의 짧은 트랜잭션으로 저장 (사용량은 트랜잭션 밖에서 기록)
+        //      - 사용량은 선차감한 달 기준으로 기록 (월이 바뀌는 순간에도 Redis 한도 키와 같은 달에 반영)
+        String month = reservation.getMonth();
+        //      - 사용량은 OpenAI 응답의 usage 블록(프롬프트 + 결과 토큰) 기준, 없으면 토크나이저로 계산
+        //      - 결과 캐시 적중 시 사용량 반영 여부는 openai.cache.charge-on-hit 정책을 따름
+        //      - 업스트림 실패(에러 결과)는 차감하지 않음
+        boolean failed = result.failed();
+        int usedTokens = failed || (result.cached() && !gptConfig.isCacheChargeOnHit())
+                ? 0 : GptTokenUtil.usedTokens(paraphraseRequestedText, result);
+        HistoryMetaDTO metaDTO = paraphraseHistoryService.appendContent(
                 memberId,
                 folderId,
                 historyId,
                 paraphraseRequestedText,  // 원본 텍스트
-                result,                     // 패러프레이징 결과
+                result.content(),           // 패러프레이징 결과
                 scale,
                 mode,
                 paraphraseMode
         );
 
-        // 5. 사용량 업데이트
-        //    - 월 토큰 사용량 증가
-        incrementMonthlyUsage(memberId, YearMonth.now().toString(), GptTokenUtil.estimateTokenCount(paraphraseRequestedText));
+        //      - DB 사용량은 요청마다 갱신하지 않고 Redis 스트림에 기록 후 주기적으로 일괄 반영 (write-behind)
+        if (usedTokens > 0) {
+            tokenUsageWriteBehindService.record(memberId, month, usedTokens);
+        }
+
+        // 선차감한 토큰을 실제 사용량으로 보정 - DB 커밋 이후 반영
+        tokenQuotaService.reconcile(reservation, usedTokens);
+        long remainingToken = userPlan == Plan.PRO
+                ? 0 : Math.max(0, reservation.getRemaining() + reservation.getReservedTokens() - usedTokens);
 
         // 6. result return
         ParaphraseResponseDTO responseDTO = ParaphraseResponseDTO.builder()
                 .resultHistoryId(metaDTO.id())
                 .name(metaDTO.name())
                 .originalText(paraphraseRequestedText)
-                .paraphrasedText(result)
+                .paraphrasedText(result.content())
                 .sequenceNumber(metaDTO.sequenceNumber())
                 .remainingToken(remainingToken)
                 .build();
         return responseDTO;
     }
-    
-    // 4. Content 저장 로직
-    private HistoryMetaDTO saveParaphraseContent(String memberId, Long folderId, Long historyId, 
-                                                  String originalText, String paraphrasedText, int scale, String mode, String paraphraseMode) {
-        ParaphraseHistory history;
-        Integer nextSequenceNumber;
-        
-        if (historyId != null) {
-            // 기존 히스토리에 content 추가
-            history = paraphraseHistoryRepository.findById(historyId)
-                    .orElseThrow(() -> new BusinessLogicException(ParaphraseErrorCode.HISTORY_NOT_FOUND));
-            
-            // 현재 content 개수 확인하여 다음 sequence number 계산
-            Long contentCount = paraphraseContentRepository.countByHistoryId(historyId);
-            nextSequenceNumber = contentCount.intValue() + 1;
-            
-            // 10개 초과 시 가장 오래된 content 삭제
-            if (contentCount >= 10) {
-                paraphraseContentRepository.findByHistoryIdOrderBySequenceNumberDesc(historyId)
-                        .stream()
-                        .skip(9)  // 최신 9개는 유지
-                        .forEach(paraphraseContentRepository::delete);
-            }
-        } else {
-            // 새 히스토리 생성
-            history = paraphraseHistoryService.createNewHistory(memberId, folderId);
-            nextSequenceNumber = 1;
-        }
-
-        ParaphraseContent content;
-        
-        // Content 생성 및 저장
-        if(mode.equals("custom")){
-            content = ParaphraseContent.builder()
-                    .history(history)
-                    .originalText(originalText)
-                    .paraphrasedText(paraphrasedText)
-                    .sequenceNumber(nextSequenceNumber)
-                    .scale(scale)
-                    .mode(mode)
-                    .userRequestMode(paraphraseMode)    // 사용자 지정모드는 따로 모드 세부 내용 저장
-                    .build();
-        } else {
-            content = ParaphraseContent.builder()
-                    .history(history)
-                    .originalText(originalText)
-                    .paraphrasedText(paraphrasedText)
-                    .sequenceNumber(nextSequenceNumber)
-                    .scale(scale)
-                    .mode(mode)
-                    .build();
-        }        
-        
-        paraphraseContentRepository.save(content);
-        
-        // HistoryMetaDTO 반환
-        return new HistoryMetaDTO(history.getId(), history.getName(), nextSequenceNumber);
-    }
-
-    private long validateRemainingMonthlyTokens(String memberId, Plan plan, String text){
-
-        // 1. 현재까지 사용량
-        long usedTokensThisMonth = findOrInitializeMonthlyUsage(memberId, YearMonth.now().toString());
-
-        // 2. 요청 텍스트 토큰 수
-        int requestedTokens = GptTokenUtil.estimateTokenCount(text);
-
-        // 3. 남은 토큰
-        long remaining = plan.getMaxTokensPerMonth() - usedTokensThisMonth;
-
-        // 4. 남은 월 토큰 < 요청 토큰이면 → 에러 응답 반환
-        if (remaining < requestedTokens) {
-            throw new BusinessLogicException(ParaphraseErrorCode.MONTHLY_TOKEN_LIMIT_EXCEEDED, String.format("월 토큰 한도를 초과하였습니다. (요청: %d, 남음: %d)", requestedTokens, remaining));
-        }
-        return remaining - requestedTokens;
-    }
-
-    private long findOrInitializeMonthlyUsage(String memberId, String month){
-        // 1. Redis에서 조회
-        Long value = redisService.getMonthlyUsage(memberId, month);
-        if (value >= 0) {
-            // Redis에 값이 있으면 바로 반환
-            return value;
-        }
-
-        // 2-1. Redis에 없으면 DB에서 조회
-        long used = tokenUsageService.findOrInitializeUsedTokens(memberId, month);
-        redisService.setMonthlyUsage(memberId, month, used);
-        return used;
-
-    }
-
-    private void incrementMonthlyUsage (String memberId, String month, long increment){
-        long after = tokenUsageService.incrementUsedTokens(memberId, month, increment);
-        // 캐시 동기화(정합성 보장)
-        redisService.incrementMonthlyUsage(memberId, month, increment);
-    }
 
 }
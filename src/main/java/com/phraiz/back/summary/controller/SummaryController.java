@@ -4,8 +4,9 @@ import com.phraiz.back.common.util.SecurityUtil;
 import com.phraiz.back.common.dto.request.HistoryUpdateDTO;
 import com.phraiz.back.summary.dto.request.SummaryRequestDTO;
 import com.phraiz.back.common.dto.request.UpdateRequestDTO;
+import com.phraiz.back.common.dto.response.CursorPageDTO;
 import com.phraiz.back.common.dto.response.FoldersResponseDTO;
-import com.phraiz.back.common.dto.response.HistoriesResponseDTO;
+import com.phraiz.back.common.dto.response.HistoryListItemDTO;
 import com.phraiz.back.common.dto.response.HistoryContentResponseDTO;
 import com.phraiz.back.summary.dto.response.SummaryResponseDTO;
 import com.phraiz.back.summary.service.SummaryFolderService;
@@ -15,9 +16,13 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -49,56 +54,59 @@ public class SummaryController {
     // 1. 모드 별 요약
     // 1-1. 한 줄 요약
     @PostMapping("/summarize/one-line")
-    public ResponseEntity<?> oneLineSummary(HttpServletRequest request, HttpServletResponse response,
+    public CompletableFuture<ResponseEntity<SummaryResponseDTO>> oneLineSummary(HttpServletRequest request, HttpServletResponse response,
                                             @RequestBody SummaryRequestDTO dto) {
         String memberId = SecurityUtil.getCurrentMemberId();
-        SummaryResponseDTO result = summaryService.oneLineSummary(memberId, dto);
-        return ResponseEntity.ok(result);
+        return summaryService.oneLineSummary(memberId, dto).thenApply(ResponseEntity::ok);
     }
 
     // 1-2. 전체 요약
     @PostMapping("/summarize/full")
-    public ResponseEntity<?> fullSummary(HttpServletRequest request, HttpServletResponse response,
+    public CompletableFuture<ResponseEntity<SummaryResponseDTO>> fullSummary(HttpServletRequest request, HttpServletResponse response,
                                          @RequestBody SummaryRequestDTO dto) {
         String memberId = SecurityUtil.getCurrentMemberId();
-        SummaryResponseDTO result = summaryService.fullSummary(memberId, dto);
-        return ResponseEntity.ok(result);
+        return summaryService.fullSummary(memberId, dto).thenApply(ResponseEntity::ok);
     }
 
     // 1-3. 문단 별 요약
     @PostMapping("/summarize/by-paragraph")
-    public ResponseEntity<?> paragraphSummary(HttpServletRequest request, HttpServletResponse response,
+    public CompletableFuture<ResponseEntity<SummaryResponseDTO>> paragraphSummary(HttpServletRequest request, HttpServletResponse response,
                                               @RequestBody SummaryRequestDTO dto) {
         String memberId = SecurityUtil.getCurrentMemberId();
-        SummaryResponseDTO result = summaryService.paragraphSummary(memberId, dto);
-        return ResponseEntity.ok(result);
+        return summaryService.paragraphSummary(memberId, dto).thenApply(ResponseEntity::ok);
     }
 
     // 1-4. 핵심 요약
     @PostMapping("/summarize/key-points")
-    public ResponseEntity<?> keyPointSummary(HttpServletRequest request, HttpServletResponse response,
+    public CompletableFuture<ResponseEntity<SummaryResponseDTO>> keyPointSummary(HttpServletRequest request, HttpServletResponse response,
                                              @RequestBody SummaryRequestDTO dto) {
         String memberId = SecurityUtil.getCurrentMemberId();
-        SummaryResponseDTO result = summaryService.keyPointSummary(memberId, dto);
-        return ResponseEntity.ok(result);
+        return summaryService.keyPointSummary(memberId, dto).thenApply(ResponseEntity::ok);
     }
 
     // 1-5. 질문 기반 요약
     @PostMapping("/summarize/question-based")
-    public ResponseEntity<?> questionBasedSummary(HttpServletRequest request, HttpServletResponse response,
+    public CompletableFuture<ResponseEntity<SummaryResponseDTO>> questionBasedSummary(HttpServletRequest request, HttpServletResponse response,
                                                   @RequestBody SummaryRequestDTO dto) {
         String memberId = SecurityUtil.getCurrentMemberId();
-        SummaryResponseDTO result = summaryService.questionBasedSummary(memberId, dto);
-        return ResponseEntity.ok(result);
+        return summaryService.questionBasedSummary(memberId, dto).thenApply(ResponseEntity::ok);
     }
 
     // 1-6. 타겟 요약
     @PostMapping("/summarize/targeted")
-    public ResponseEntity<?> targetedSummary(HttpServletRequest request, HttpServletResponse response,
+    public CompletableFuture<ResponseEntity<SummaryResponseDTO>> targetedSummary(HttpServletRequest request, HttpServletResponse response,
                                              @RequestBody SummaryRequestDTO dto) {
         String memberId = SecurityUtil.getCurrentMemberId();
-        SummaryResponseDTO result = summaryService.targetedSummary(memberId, dto);
-        return ResponseEntity.ok(result);
+        return summaryService.targetedSummary(memberId, dto).thenApply(ResponseEntity::ok);
+    }
+
+    // 1-7. 스트리밍 요약 (SSE) - mode: one-line, full, by-paragraph, key-points, question-based, targeted
+    //      delta 이벤트로 생성 중인 텍스트를 보내고, 저장이 끝나면 done 이벤트로 최종 결과 전달
+    @PostMapping(value = "/summarize/{mode}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSummary(@PathVariable String mode,
+                                    @RequestBody SummaryRequestDTO dto) {
+        String memberId = SecurityUtil.getCurrentMemberId();
+        return summaryService.streamSummary(memberId, mode, dto);
     }
 
     /* ---------- 2. 폴더 ---------- */
@@ -113,6 +121,16 @@ public class SummaryController {
         return summaryFolderService.getFolders(memberId, page, size);
     }
 
+    // 2-1-1. 폴더 목록 (커서 기반, 첫 요청은 cursor 생략)
+    @GetMapping("/folders/cursor")
+    public CursorPageDTO<FoldersResponseDTO> getFoldersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        String memberId = SecurityUtil.getCurrentMemberId();
+        return summaryFolderService.getFoldersByCursor(memberId, cursor, size);
+    }
+
     // 2-2. 폴더 생성
     @PostMapping("/folders")
     public ResponseEntity<Void> createFolder(@RequestBody UpdateRequestDTO dto) {
@@ -142,14 +160,24 @@ public class SummaryController {
 
     // 3-1. 히스토리 목록 (page,size optional)
     @GetMapping("/histories")
-    public Page<HistoriesResponseDTO> getHistories(@RequestParam(required = false) Long folderId,
-                                                   @RequestParam(defaultValue = "0") int page,
-                                                   @RequestParam(defaultValue = "5") int size) {
+    public Page<HistoryListItemDTO> getHistories(@RequestParam(required = false) Long folderId,
+                                                 @RequestParam(defaultValue = "0") int page,
+                                                 @RequestParam(defaultValue = "5") int size) {
 
         String memberId = SecurityUtil.getCurrentMemberId();
         return summaryHistoryService.getHistories(memberId, folderId, page, size);
     }
 
+    // 3-1-1. 히스토리 목록 (커서 기반, 첫 요청은 cursor 생략)
+    @GetMapping("/histories/cursor")
+    public CursorPageDTO<HistoryListItemDTO> getHistoriesByCursor(@RequestParam(required = false) Long folderId,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(defaultValue = "5") int size) {
+
+        String memberId = SecurityUtil.getCurrentMemberId();
+        return summaryHistoryService.getHistoriesByCursor(memberId, folderId, cursor, size);
+    }
+
     // 3-2. 히스토리 생성
     @PostMapping("/histories")
     public ResponseEntity<Void> createHistory(@RequestParam(required = false) Long folderId,
@@ -190,14 +218,14 @@ public class SummaryController {
 
     /* ---------- 파일 업로드 ---------- */
     @PostMapping("/file-upload")
-    public ResponseEntity<?> extractTextFromPdf(@RequestPart("file") MultipartFile file,
+    public CompletableFuture<ResponseEntity<SummaryResponseDTO>> extractTextFromPdf(@RequestPart("file") MultipartFile file,
                                                 @RequestParam("mode") String mode,
                                                 @RequestParam(value = "target", required = false) String target,
                                                 @RequestParam(value = "question", required = false) String question,
                                                 @RequestParam(value = "historyId", required = false) Long historyId,
                                                 @RequestParam(value = "folderId", required = false) Long folderId) {
         String memberId = SecurityUtil.getCurrentMemberId();
-        SummaryResponseDTO result = summaryService.uploadFile(memberId, file, mode, target, question, historyId, folderId);
-        return ResponseEntity.ok(result);
+        return summaryService.uploadFile(memberId, file, mode, target, question, historyId, folderId)
+                .thenApply(ResponseEntity::ok);
     }
 }
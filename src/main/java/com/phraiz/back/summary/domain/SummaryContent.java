@@ -9,7 +9,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "summary_contents")
+@Table(
+        name = "summary_contents",
+        uniqueConstraints = @UniqueConstraint(name = "uq_summary_contents_history_seq", columnNames = {"history_id", "sequence_number"})
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SummaryContent {
@@ -2,6 +2,7 @@ package com.phraiz.back.summary.domain;
 
 import com.phraiz.back.common.domain.BaseFolder;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -9,7 +10,10 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
 @Entity
-@Table(name = "summary_folder")
+@Table(
+        name = "summary_folder",
+        indexes = @Index(name = "idx_summary_folder_cursor", columnList = "member_id, created_at, id") // 커서 기반 목록
+)
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SummaryFolder extends BaseFolder {
@@ -12,7 +12,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "summary_history")
+@Table(
+        name = "summary_history",
+        indexes = @Index(name = "idx_summary_history_cursor", columnList = "member_id, folder_id, created_at, id") // 커서 기반 목록
+)
 @SuperBuilder
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -27,12 +30,4 @@ public class SummaryHistory extends BaseHistory {
     public void addContent(SummaryContent content) {
         this.contents.add(content);
     }
-    
-    // 최대 10개로 제한하면서 오래된 content 제거
-    public void limitContentsToTen() {
-        if (this.contents.size() > 10) {
-            List<SummaryContent> toRemove = this.contents.subList(10, this.contents.size());
-            toRemove.clear();
-        }
-    }
 }
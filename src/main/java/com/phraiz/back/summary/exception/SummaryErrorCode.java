@@ -28,7 +28,9 @@ public enum SummaryErrorCode implements ErrorCode {
     FILE_IS_EMPTY(400, "FILE402", "업로드된 파일이 비어 있습니다.", "FILE_PROCESS"),
     FILE_ENCRYPTED(400, "FILE403", "비밀번호로 보호된 파일은 처리할 수 없습니다.", "FILE_PROCESS"),
     FILE_TEXT_EMPTY(400, "FILE404", "파일에서 유효한 텍스트를 추출하지 못했습니다.", "FILE_PROCESS"),
-    FILE_TOO_LARGE(400, "FILE405", "파일 크기가 50MB를 초과했습니다.", "FILE_PROCESS"),
+    FILE_TOO_LARGE(400, "FILE405", "파일 크기가 허용 용량을 초과했습니다.", "FILE_PROCESS"),
+    FILE_PAGE_LIMIT_EXCEEDED(400, "FILE406", "파일의 페이지 수가 허용 범위를 초과했습니다.", "FILE_PROCESS"),
+    FILE_TEXT_TOO_LONG(400, "FILE407", "파일에서 추출한 텍스트가 너무 깁니다.", "FILE_PROCESS"),
     FILE_READ_FAILED(500, "FILE501", "파일을 읽는 도중 서버 오류가 발생했습니다.", "FILE_PROCESS"),
 
 
@@ -0,0 +1,231 @@
+package com.phraiz.back.summary.service;
+
+import com.phraiz.back.common.dto.response.OpenAIResultDTO;
+import com.phraiz.back.common.exception.GlobalErrorCode;
+import com.phraiz.back.common.exception.custom.InternalServerException;
+import com.phraiz.back.common.service.LlmExecutionService;
+import com.phraiz.back.common.service.OpenAIService;
+import com.phraiz.back.common.util.GptTokenUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * 긴 문서 요약 (map-reduce)
+ * - 짧은 글은 그대로 한 번에 요약
+ * - 긴 글은 문단 단위로 토큰 수 제한에 맞게 나눈 뒤(chunk) 각 조각을 병렬로 부분 요약(map)하고,
+ *   부분 요약들을 합쳐 사용자가 요청한 모드로 최종 요약(reduce)
+ * - 부분 요약을 합친 것도 너무 길면 한 번 더 나눠서 요약 (계층적 reduce)
+ * - 지연 시간은 전체 길이가 아니라 가장 느린 조각에 비례
+ */
+@Slf4j
+@Service
+public class LongDocumentSummarizer {
+
+    private static final String CHUNK_PROMPT =
+            "다음 글은 긴 문서의 일부입니다. 다른 부분의 요약과 합쳐 최종 요약을 만들 수 있도록 핵심 내용과 주요 수치, 용어를 빠짐없이 간결하게 요약해줘.";
+    private static final Pattern PARAGRAPH_SEPARATOR = Pattern.compile("\\n\\s*\\n");
+    private static final Pattern SENTENCE_SEPARATOR = Pattern.compile("(?<=[.!?。])\\s+|\\n");
+
+    private final OpenAIService openAIService;
+    private final LlmExecutionService llmExecutionService;
+    private final int chunkTokens;
+    private final int singlePassMaxTokens;
+    private final int parallelism;
+
+    public LongDocumentSummarizer(OpenAIService openAIService,
+                                  LlmExecutionService llmExecutionService,
+                                  @Value("${summary.long-document.chunk-tokens:6000}") int chunkTokens,
+                                  @Value("${summary.long-document.single-pass-max-tokens:12000}") int singlePassMaxTokens,
+                                  @Value("${summary.long-document.parallelism:4}") int parallelism) {
+        this.openAIService = openAIService;
+        this.llmExecutionService = llmExecutionService;
+        this.chunkTokens = chunkTokens;
+        this.singlePassMaxTokens = singlePassMaxTokens;
+        this.parallelism = parallelism;
+    }
+
+    public OpenAIResultDTO summarize(String text, String summarizeMode) {
+        if (GptTokenUtil.countTokens(text) <= singlePassMaxTokens) {
+            return openAIService.callSummaryOpenAI(text, summarizeMode);
+        }
+
+        Reduced reduced = reduceToSinglePass(text);
+        OpenAIResultDTO result = openAIService.callSummaryOpenAI(reduced.text(), summarizeMode);
+        return reduced.merge(GptTokenUtil.withUsage(reduced.text(), result));
+    }
+
+    // 스트리밍 요약 - 긴 글은 부분 요약까지 마친 뒤 최종 요약만 스트리밍
+    public OpenAIResultDTO streamSummarize(String text, String summarizeMode, Consumer<String> onDelta) {
+        if (GptTokenUtil.countTokens(text) <= singlePassMaxTokens) {
+            return openAIService.streamSummaryOpenAI(text, summarizeMode, onDelta);
+        }
+
+        Reduced reduced = reduceToSinglePass(text);
+        OpenAIResultDTO result = openAIService.streamSummaryOpenAI(reduced.text(), summarizeMode, onDelta);
+        return reduced.merge(GptTokenUtil.withUsage(reduced.text(), result));
+    }
+
+    // 부분 요약을 합친 결과가 한 번에 요약 가능한 길이가 될 때까지 map 단계 반복
+    //  - 부분 요약 호출들의 사용량도 함께 합산
+    private Reduced reduceToSinglePass(String text) {
+        String current = text;
+        boolean allCached = true;
+        int promptTokens = 0;
+        int completionTokens = 0;
+        int round = 0;
+
+        while (GptTokenUtil.countTokens(current) > singlePassMaxTokens) {
+            List<String> chunks = split(current);
+            log.info("[LongDocument] round={} chunks={} tokens~{}", ++round, chunks.size(),
+                    GptTokenUtil.countTokens(current));
+
+            List<OpenAIResultDTO> partials = summarizeChunks(chunks);
+            for (int i = 0; i < partials.size(); i++) {
+                OpenAIResultDTO partial = GptTokenUtil.withUsage(chunks.get(i), partials.get(i));
+                allCached &= partial.cached();
+                promptTokens += partial.promptTokens();
+                completionTokens += partial.completionTokens();
+            }
+            current = String.join("\n\n", partials.stream().map(OpenAIResultDTO::content).toList());
+        }
+        return new Reduced(current, allCached, promptTokens, completionTokens);
+    }
+
+    // map: 조각별 부분 요약을 병렬 실행 (문서당 / 서버 전체 동시 실행 수 제한), 결과는 원래 순서대로 반환
+    private List<OpenAIResultDTO> summarizeChunks(List<String> chunks) {
+        Semaphore permits = new Semaphore(parallelism);
+        List<CompletableFuture<OpenAIResultDTO>> futures = new ArrayList<>(chunks.size());
+
+        try {
+            for (String chunk : chunks) {
+                permits.acquire();
+                CompletableFuture<OpenAIResultDTO> future;
+                try {
+                    future = llmExecutionService.submitChunk(() -> summarizeChunk(chunk));
+                } catch (RuntimeException e) {
+                    permits.release();
+                    throw e;
+                }
+                futures.add(future.whenComplete((result, ex) -> permits.release()));
+            }
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(f -> f.cancel(true));
+            throw new InternalServerException(GlobalErrorCode.OPENAI_API_ERROR, e);
+        } catch (CompletionException e) {
+            futures.forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            // 조각 실행 자리를 얻지 못한 경우 - 이미 시작한 조각은 취소
+            futures.forEach(f -> f.cancel(true));
+            throw e;
+        }
+    }
+
+    private OpenAIResultDTO summarizeChunk(String chunk) {
+        OpenAIResultDTO result = openAIService.callSummaryOpenAI(chunk, CHUNK_PROMPT);
+        // 조각 하나라도 실패하면 불완전한 요약이 되므로 전체 실패 처리
+        if (result.failed()) {
+            throw new InternalServerException(GlobalErrorCode.OPENAI_API_ERROR, result.content());
+        }
+        return result;
+    }
+
+    /**
+     * 문단 경계를 유지하며 chunkTokens 이하의 조각으로 나눔
+     * - 한 문단이 너무 길면 문장 단위로, 문장도 너무 길면 글자 수로 자름
+     */
+    List<String> split(String text) {
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int currentTokens = 0;
+
+        // 문단별 토큰 수를 누적해 조각 크기 판단 (조각 전체를 다시 토큰화하지 않음)
+        for (String paragraph : PARAGRAPH_SEPARATOR.split(text)) {
+            String trimmed = paragraph.strip();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+
+            int tokens = GptTokenUtil.countTokens(trimmed);
+            if (tokens > chunkTokens) {
+                flush(chunks, current);
+                currentTokens = 0;
+                splitLongParagraph(trimmed, chunks);
+                continue;
+            }
+
+            if (currentTokens + tokens > chunkTokens) {
+                flush(chunks, current);
+                currentTokens = 0;
+            }
+            if (!current.isEmpty()) {
+                current.append("\n\n");
+            }
+            current.append(trimmed);
+            currentTokens += tokens;
+        }
+        flush(chunks, current);
+        return chunks;
+    }
+
+    private void splitLongParagraph(String paragraph, List<String> chunks) {
+        StringBuilder current = new StringBuilder();
+        int currentTokens = 0;
+
+        for (String sentence : SENTENCE_SEPARATOR.split(paragraph)) {
+            int tokens = GptTokenUtil.countTokens(sentence);
+            if (tokens > chunkTokens) {
+                flush(chunks, current);
+                currentTokens = 0;
+                // 문장 구분이 없는 긴 텍스트 - 토큰 한도에 맞는 글자 수로 자름
+                int maxChars = (int) Math.max(1, (long) chunkTokens * sentence.length() / tokens);
+                for (int start = 0; start < sentence.length(); start += maxChars) {
+                    chunks.add(sentence.substring(start, Math.min(sentence.length(), start + maxChars)));
+                }
+                continue;
+            }
+
+            if (currentTokens + tokens > chunkTokens) {
+                flush(chunks, current);
+                currentTokens = 0;
+            }
+            if (!current.isEmpty()) {
+                current.append(' ');
+            }
+            current.append(sentence);
+            currentTokens += tokens;
+        }
+        flush(chunks, current);
+    }
+
+    private void flush(List<String> chunks, StringBuilder current) {
+        if (!current.isEmpty()) {
+            chunks.add(current.toString());
+            current.setLength(0);
+        }
+    }
+
+    private record Reduced(String text, boolean cached, int promptTokens, int completionTokens) {
+
+        // 최종 요약 결과에 부분 요약 단계의 캐시 여부와 사용량을 합침 (최종 요약 실패 여부는 그대로 유지)
+        OpenAIResultDTO merge(OpenAIResultDTO result) {
+            return new OpenAIResultDTO(result.content(), cached && result.cached(),
+                    promptTokens + result.promptTokens(), completionTokens + result.completionTokens(),
+                    result.failed());
+        }
+    }
+}
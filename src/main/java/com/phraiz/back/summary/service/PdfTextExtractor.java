@@ -0,0 +1,163 @@
+package com.phraiz.back.summary.service;
+
+import com.phraiz.back.common.exception.GlobalErrorCode;
+import com.phraiz.back.common.exception.custom.BusinessLogicException;
+import com.phraiz.back.summary.exception.SummaryErrorCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.encryption.InvalidPasswordException;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * PDF 텍스트 추출
+ * - 업로드 파일을 임시 파일로 옮긴 뒤, pdfExecutor 에서 PDDocument 를 한 번만 열어 페이지 구간 순서대로 추출
+ *   (PDDocument 는 스레드 안전하지 않고, 구간마다 다시 열면 파싱 비용이 구간 수만큼 반복됨)
+ * - PDFBox 가 메모리를 일정량 이상 쓰면 임시(scratch) 파일을 사용하도록 제한
+ * - 페이지 수, 추출 글자 수 한도를 넘으면 추출 도중에 중단
+ * - 추출이 끝난 전체 텍스트를 한 번에 넘김 (구간별로 요약을 먼저 시작하지 않음)
+ *   월 토큰 선차감과 글자 수 한도 판단에 전체 텍스트가 필요 - 먼저 시작한 부분 요약은 한도 초과 시 되돌릴 수 없음
+ * - pdfExecutor 대기열이 가득 차면 바로 거절 (LLM_TOO_MANY_REQUESTS)
+ */
+@Slf4j
+@Service
+public class PdfTextExtractor {
+
+    private final Executor pdfExecutor;
+    @Getter
+    private final DataSize maxFileSize;
+    private final int maxPages;
+    private final long maxChars;
+    private final int pagesPerTask;
+    private final long mainMemoryBytes;
+
+    public PdfTextExtractor(@Qualifier("pdfExecutor") Executor pdfExecutor,
+                            @Value("${summary.pdf.max-file-size:20MB}") DataSize maxFileSize,
+                            @Value("${summary.pdf.max-pages:300}") int maxPages,
+                            @Value("${summary.pdf.max-chars:400000}") long maxChars,
+                            @Value("${summary.pdf.pages-per-task:20}") int pagesPerTask,
+                            @Value("${summary.pdf.main-memory:8MB}") DataSize mainMemory) {
+        this.pdfExecutor = pdfExecutor;
+        this.maxFileSize = maxFileSize;
+        this.maxPages = maxPages;
+        this.maxChars = maxChars;
+        this.pagesPerTask = pagesPerTask;
+        this.mainMemoryBytes = mainMemory.toBytes();
+    }
+
+    // 페이지 순서대로 추출한 텍스트 반환 (추출은 pdfExecutor 에서 실행)
+    public CompletableFuture<String> extract(MultipartFile file) {
+        // 1. 업로드 파일을 임시 파일로 저장 - 요청이 끝나도 추출이 끝날 때까지 유지
+        Path tempFile = copyToTempFile(file);
+
+        try {
+            return CompletableFuture.supplyAsync(() -> extractText(tempFile), pdfExecutor)
+                    .whenComplete((text, ex) -> deleteQuietly(tempFile));
+        } catch (RejectedExecutionException e) {
+            deleteQuietly(tempFile);
+            log.warn("[PdfTextExtractor] 추출 요청 거절 (대기열 포화)");
+            throw new BusinessLogicException(GlobalErrorCode.LLM_TOO_MANY_REQUESTS, "PDF 추출 대기열 포화");
+        } catch (RuntimeException e) {
+            deleteQuietly(tempFile);
+            throw e;
+        }
+    }
+
+    private String extractText(Path tempFile) {
+        try (PDDocument document = load(tempFile)) {
+            // 2. 페이지 수 확인
+            int pageCount = document.getNumberOfPages();
+            if (pageCount > maxPages) {
+                throw new BusinessLogicException(SummaryErrorCode.FILE_PAGE_LIMIT_EXCEEDED);
+            }
+
+            // 3. 같은 문서에서 페이지 구간별로 추출 - 글자 수 한도를 넘으면 남은 구간은 읽지 않음
+            PDFTextStripper stripper = new PDFTextStripper();
+            BudgetedWriter writer = new BudgetedWriter();
+            for (int from = 1; from <= pageCount; from += pagesPerTask) {
+                int to = Math.min(pageCount, from + pagesPerTask - 1);
+                stripper.setStartPage(from);
+                stripper.setEndPage(to);
+                try {
+                    stripper.writeText(document, writer);
+                } catch (IOException e) {
+                    log.error("[PdfTextExtractor] 페이지 {}~{} 추출 실패", from, to, e);
+                    throw new BusinessLogicException(SummaryErrorCode.FILE_READ_FAILED);
+                }
+            }
+            return writer.toString();
+        } catch (IOException e) {
+            log.error("[PdfTextExtractor] PDF 열기 실패", e);
+            throw new BusinessLogicException(SummaryErrorCode.FILE_READ_FAILED);
+        }
+    }
+
+    // mainMemoryBytes 까지만 힙을 쓰고 나머지는 임시 파일 사용
+    private PDDocument load(Path tempFile) throws IOException {
+        try {
+            return PDDocument.load(tempFile.toFile(), MemoryUsageSetting.setupMixed(mainMemoryBytes));
+        } catch (InvalidPasswordException e) {
+            throw new BusinessLogicException(SummaryErrorCode.FILE_ENCRYPTED);
+        }
+    }
+
+    private Path copyToTempFile(MultipartFile file) {
+        try {
+            Path tempFile = Files.createTempFile("phraiz-upload-", ".pdf");
+            file.transferTo(tempFile);
+            return tempFile;
+        } catch (IOException e) {
+            log.error("[PdfTextExtractor] 업로드 파일 저장 실패", e);
+            throw new BusinessLogicException(SummaryErrorCode.FILE_READ_FAILED);
+        }
+    }
+
+    private void deleteQuietly(Path tempFile) {
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("[PdfTextExtractor] 임시 파일 삭제 실패: {}", tempFile, e);
+        }
+    }
+
+    // 페이지 텍스트가 쓰일 때마다 전체 글자 수를 집계해 한도를 넘으면 바로 중단
+    private class BudgetedWriter extends Writer {
+
+        private final StringBuilder buffer = new StringBuilder();
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            if (buffer.length() + (long) len > maxChars) {
+                throw new BusinessLogicException(SummaryErrorCode.FILE_TEXT_TOO_LONG);
+            }
+            buffer.append(cbuf, off, len);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+}
@@ -5,9 +5,7 @@ import com.phraiz.back.common.enums.Plan;
 import com.phraiz.back.common.exception.custom.BusinessLogicException;
 import com.phraiz.back.common.repository.BaseFolderRepository;
 import com.phraiz.back.common.service.AbstractFolderService;
-import com.phraiz.back.member.domain.Member;
-import com.phraiz.back.member.exception.MemberErrorCode;
-import com.phraiz.back.member.repository.MemberRepository;
+import com.phraiz.back.member.service.MemberPlanCache;
 import com.phraiz.back.summary.domain.SummaryFolder;
 import com.phraiz.back.summary.exception.SummaryErrorCode;
 import lombok.extern.slf4j.Slf4j;
@@ -21,11 +19,11 @@ import java.util.Collections;
 @Slf4j
 public class SummaryFolderService extends AbstractFolderService<SummaryFolder> {
 
-    private final MemberRepository memberRepository;
+    private final MemberPlanCache memberPlanCache;
 
-    protected SummaryFolderService(BaseFolderRepository<SummaryFolder> repo, MemberRepository memberRepository) {
+    protected SummaryFolderService(BaseFolderRepository<SummaryFolder> repo, MemberPlanCache memberPlanCache) {
         super(repo);
-        this.memberRepository = memberRepository;
+        this.memberPlanCache = memberPlanCache;
     }
 
     @Override
@@ -52,8 +50,7 @@ public class SummaryFolderService extends AbstractFolderService<SummaryFolder> {
 
     @Override
     protected void validateCreateFolder(String memberId) {
-        Member member=memberRepository.findById(memberId).orElseThrow(()->new BusinessLogicException(MemberErrorCode.USER_NOT_FOUND));
-        Plan userPlan = Plan.fromId(member.getPlanId());
+        Plan userPlan = memberPlanCache.getPlan(memberId);
         if(userPlan == Plan.FREE){
             throw new BusinessLogicException(SummaryErrorCode.PLAN_NOT_ACCESSED);
         }
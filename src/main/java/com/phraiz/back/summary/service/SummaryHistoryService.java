@@ -1,14 +1,12 @@
 package com.phraiz.back.summary.service;
 
-import com.phraiz.back.common.dto.response.HistoriesResponseDTO;
+import com.phraiz.back.common.domain.BaseHistory;
 import com.phraiz.back.common.dto.response.HistoryMetaDTO;
 import com.phraiz.back.common.enums.Plan;
 import com.phraiz.back.common.exception.custom.BusinessLogicException;
 import com.phraiz.back.common.repository.BaseHistoryRepository;
 import com.phraiz.back.common.service.AbstractHistoryService;
-import com.phraiz.back.member.domain.Member;
-import com.phraiz.back.member.exception.MemberErrorCode;
-import com.phraiz.back.member.repository.MemberRepository;
+import com.phraiz.back.member.service.MemberPlanCache;
 import com.phraiz.back.summary.domain.SummaryContent;
 import com.phraiz.back.summary.domain.SummaryHistory;
 import com.phraiz.back.summary.dto.response.SummaryResponseDTO;
@@ -22,7 +20,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.Collections;
 
 
 @Service
@@ -30,7 +27,7 @@ import java.util.Collections;
 @Slf4j
 public class SummaryHistoryService extends AbstractHistoryService<SummaryHistory> {
 
-    private final MemberRepository memberRepository;
+    private final MemberPlanCache memberPlanCache;
     private final SummaryContentRepository summaryContentRepository;
 
     private final int MAX_HISTORY_FOR_FREE = 30;
@@ -38,26 +35,13 @@ public class SummaryHistoryService extends AbstractHistoryService<SummaryHistory
             DateTimeFormatter.ofPattern("yyMMdd");
 
     protected SummaryHistoryService(BaseHistoryRepository<SummaryHistory> repo, 
-                                   MemberRepository memberRepository,
+                                   MemberPlanCache memberPlanCache,
                                    SummaryContentRepository summaryContentRepository) {
         super(repo);
-        this.memberRepository = memberRepository;
+        this.memberPlanCache = memberPlanCache;
         this.summaryContentRepository = summaryContentRepository;
     }
 
-    @Override
-    protected HistoriesResponseDTO toDTO(SummaryHistory entity) {
-        HistoriesResponseDTO.Histories historyItem = HistoriesResponseDTO.Histories.builder()
-                .id(entity.getId())
-                .name(entity.getName())
-                .lastUpdate(entity.getLastUpdate())
-                .build();
-
-        return HistoriesResponseDTO.builder()
-                .histories(Collections.singletonList(historyItem))
-                .build();
-    }
-
     @Override
     protected SummaryHistory newHistoryEntity(String memberId, Long folderId, String name) {
         return SummaryHistory.builder()
@@ -69,8 +53,7 @@ public class SummaryHistoryService extends AbstractHistoryService<SummaryHistory
 
     @Override
     protected void validateRemainingHistoryCount(String memberId) {
-        Member member=memberRepository.findById(memberId).orElseThrow(()->new BusinessLogicException(MemberErrorCode.USER_NOT_FOUND));
-        Plan userPlan = Plan.fromId(member.getPlanId());
+        Plan userPlan = memberPlanCache.getPlan(memberId);
         if(userPlan == Plan.FREE){
             long currentCount = repo.countByMemberId(memberId);
 
@@ -101,6 +84,44 @@ public class SummaryHistoryService extends AbstractHistoryService<SummaryHistory
         return newHistory;
     }
 
+    // 요약 결과를 히스토리에 content 로 저장 (historyId 가 없으면 새 히스토리 생성)
+    // - SummaryService 의 일반/스트리밍 요약 모두 이 메서드로 저장
+    public HistoryMetaDTO appendContent(String memberId, Long folderId, Long historyId,
+                                        String originalText, String summarizedText, String mode, String custom) {
+        SummaryHistory history;
+        Integer nextSequenceNumber;
+
+        if (historyId != null) {
+            // 기존 히스토리에 content 추가
+            history = repo.findByIdAndMemberId(historyId, memberId)
+                    .orElseThrow(() -> new BusinessLogicException(SummaryErrorCode.HISTORY_NOT_FOUND));
+
+            // 카운터로 다음 sequence number 발급 후, 최신 MAX_CONTENTS 개를 넘는 오래된 content 를 한 번에 삭제
+            nextSequenceNumber = allocateSequenceNumber(historyId);
+            summaryContentRepository.deleteUpToSequenceNumber(historyId, nextSequenceNumber - BaseHistory.MAX_CONTENTS);
+        } else {
+            // 새 히스토리 생성
+            history = createNewHistory(memberId, folderId);
+            nextSequenceNumber = allocateSequenceNumber(history.getId());
+        }
+
+        // Content 생성 및 저장 - 모드에 따라 question / target 저장
+        SummaryContent content = SummaryContent.builder()
+                .history(history)
+                .originalText(originalText)
+                .summarizedText(summarizedText)
+                .sequenceNumber(nextSequenceNumber)
+                .mode(mode)
+                .question(mode.equals("question-based") ? custom : null)
+                .target(mode.equals("targeted") ? custom : null)
+                .build();
+
+        summaryContentRepository.save(content);
+
+        // HistoryMetaDTO 반환
+        return new HistoryMetaDTO(history.getId(), history.getName(), nextSequenceNumber);
+    }
+
     // 히스토리 content 조회 (sequenceNumber 지정 가능, null이면 최신 조회)
     public SummaryResponseDTO readHistoryContent(String memberId, Long historyId, Integer sequenceNumber) {
         // 1. 히스토리 존재 및 권한 확인
@@ -1,72 +1,66 @@
 package com.phraiz.back.summary.service;
 
+import com.phraiz.back.common.config.GptConfig;
 import com.phraiz.back.common.dto.response.HistoryMetaDTO;
+import com.phraiz.back.common.dto.response.OpenAIResultDTO;
 import com.phraiz.back.common.exception.custom.BusinessLogicException;
-import com.phraiz.back.common.service.MonthlyTokenUsageService;
-import com.phraiz.back.common.service.OpenAIService;
-import com.phraiz.back.common.service.RedisService;
+import com.phraiz.back.common.service.LlmExecutionService;
+import com.phraiz.back.common.service.TokenQuotaService;
+import com.phraiz.back.common.service.TokenUsageWriteBehindService;
+import com.phraiz.back.common.service.SseStreamService;
 import com.phraiz.back.common.enums.Plan;
 import com.phraiz.back.common.util.GptTokenUtil;
-import com.phraiz.back.member.domain.Member;
-import com.phraiz.back.member.exception.MemberErrorCode;
-import com.phraiz.back.member.repository.MemberRepository;
-import com.phraiz.back.summary.domain.SummaryContent;
-import com.phraiz.back.summary.domain.SummaryHistory;
+import com.phraiz.back.member.service.MemberPlanCache;
 import com.phraiz.back.summary.dto.request.SummaryRequestDTO;
 import com.phraiz.back.summary.dto.response.SummaryResponseDTO;
 import com.phraiz.back.summary.enums.SummaryPrompt;
 import com.phraiz.back.summary.exception.SummaryErrorCode;
-import com.phraiz.back.summary.repository.SummaryContentRepository;
-import com.phraiz.back.summary.repository.SummaryHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
-import java.time.YearMonth;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class SummaryService {
 
-    private final OpenAIService openAIService;
-    private final RedisService redisService;
+    private final LongDocumentSummarizer longDocumentSummarizer;
+    private final PdfTextExtractor pdfTextExtractor;
+    private final GptConfig gptConfig;
+    private final TokenQuotaService tokenQuotaService;
     private final SummaryHistoryService summaryHistoryService;
-    private final SummaryContentRepository summaryContentRepository;
-    private final SummaryHistoryRepository summaryHistoryRepository;
-    private final MonthlyTokenUsageService tokenUsageService;
-    private final MemberRepository memberRepository;
+    private final TokenUsageWriteBehindService tokenUsageWriteBehindService;
+    private final MemberPlanCache memberPlanCache;
+    private final SseStreamService sseStreamService;
+    private final LlmExecutionService llmExecutionService;
 
-    public SummaryResponseDTO oneLineSummary(String memberId, SummaryRequestDTO summaryRequestDTO){
+    public CompletableFuture<SummaryResponseDTO> oneLineSummary(String memberId, SummaryRequestDTO summaryRequestDTO){
         return summary(memberId, summaryRequestDTO.getText(), SummaryPrompt.ONE_LINE.getPrompt(),
                 summaryRequestDTO.getFolderId(), summaryRequestDTO.getHistoryId(), "one-line", null);
     }
 
-    public SummaryResponseDTO fullSummary(String memberId, SummaryRequestDTO summaryRequestDTO){
+    public CompletableFuture<SummaryResponseDTO> fullSummary(String memberId, SummaryRequestDTO summaryRequestDTO){
         return summary(memberId, summaryRequestDTO.getText(), SummaryPrompt.FULL.getPrompt(),
                 summaryRequestDTO.getFolderId(), summaryRequestDTO.getHistoryId(), "full", null);
     }
 
-    public SummaryResponseDTO paragraphSummary(String memberId, SummaryRequestDTO summaryRequestDTO){
+    public CompletableFuture<SummaryResponseDTO> paragraphSummary(String memberId, SummaryRequestDTO summaryRequestDTO){
         return summary(memberId, summaryRequestDTO.getText(), SummaryPrompt.PARAGRAPH.getPrompt(),
                 summaryRequestDTO.getFolderId(), summaryRequestDTO.getHistoryId(), "by-paragraph", null);
     }
 
-    public SummaryResponseDTO keyPointSummary(String memberId, SummaryRequestDTO summaryRequestDTO){
+    public CompletableFuture<SummaryResponseDTO> keyPointSummary(String memberId, SummaryRequestDTO summaryRequestDTO){
         return summary(memberId, summaryRequestDTO.getText(), SummaryPrompt.KEY_POINT.getPrompt(),
                 summaryRequestDTO.getFolderId(), summaryRequestDTO.getHistoryId(), "key-points", null);
     }
 
-    public SummaryResponseDTO questionBasedSummary(String memberId, SummaryRequestDTO summaryRequestDTO){
+    public CompletableFuture<SummaryResponseDTO> questionBasedSummary(String memberId, SummaryRequestDTO summaryRequestDTO){
         // free 요금제 사용자는 사용 불가능
-        Member member=memberRepository.findById(memberId).orElseThrow(()->new BusinessLogicException(MemberErrorCode.USER_NOT_FOUND));
-        Plan userPlan = Plan.fromId(member.getPlanId());
+        Plan userPlan = memberPlanCache.getPlan(memberId);
         if(userPlan == Plan.FREE){
             throw new BusinessLogicException(SummaryErrorCode.PLAN_NOT_ACCESSED);
         }
@@ -82,10 +76,9 @@ public class SummaryService {
                 summaryRequestDTO.getFolderId(), summaryRequestDTO.getHistoryId(), "question-based", question);
     }
 
-    public SummaryResponseDTO targetedSummary(String memberId, SummaryRequestDTO summaryRequestDTO){
+    public CompletableFuture<SummaryResponseDTO> targetedSummary(String memberId, SummaryRequestDTO summaryRequestDTO){
         // free 요금제 사용자는 사용 불가능
-        Member member=memberRepository.findById(memberId).orElseThrow(()->new BusinessLogicException(MemberErrorCode.USER_NOT_FOUND));
-        Plan userPlan = Plan.fromId(member.getPlanId());
+        Plan userPlan = memberPlanCache.getPlan(memberId);
         if(userPlan == Plan.FREE){
             throw new BusinessLogicException(SummaryErrorCode.PLAN_NOT_ACCESSED);
         }
@@ -100,168 +93,147 @@ public class SummaryService {
                 summaryRequestDTO.getFolderId(), summaryRequestDTO.getHistoryId(), "targeted", target);
     }
 
-    // 1. 요약 메서드
-    private SummaryResponseDTO summary(String memberId,
-                                       String summarizeRequestedText,
-                                       String summarizeMode,
-                                       Long folderId,
-                                       Long historyId,
-                                       String mode, String custom){
+    // 스트리밍 요약 - mode: one-line, full, by-paragraph, key-points, question-based, targeted
+    public SseEmitter streamSummary(String memberId, String mode, SummaryRequestDTO summaryRequestDTO){
+        SummaryPrompt summaryPrompt = SummaryPrompt.fromMode(mode);
+        String prompt = summaryPrompt.getPrompt();
+        String custom = null;
+
+        // 질문 기반/타겟 요약은 free 요금제 사용 불가 + 질문/타겟 값을 프롬프트에 삽입
+        if (summaryPrompt == SummaryPrompt.QUESTION_BASED || summaryPrompt == SummaryPrompt.TARGETED) {
+            if(findMemberPlan(memberId) == Plan.FREE){
+                throw new BusinessLogicException(SummaryErrorCode.PLAN_NOT_ACCESSED);
+            }
+            custom = summaryPrompt == SummaryPrompt.QUESTION_BASED
+                    ? summaryRequestDTO.getQuestion() : summaryRequestDTO.getTarget();
+            if(custom == null){
+                throw new BusinessLogicException(SummaryErrorCode.INVALID_INPUT);
+            }
+            prompt = String.format(prompt, custom);
+        }
+
+        // 요금제/남은 토큰 검증은 스트림 시작 전에 수행 (실패 시 일반 에러 응답)
+        String text = summaryRequestDTO.getText();
+        Plan userPlan = findMemberPlan(memberId);
+        TokenQuotaService.Reservation reservation = reserveMemberTokens(memberId, userPlan, text);
+
+        String summarizeMode = prompt;
+        String customValue = custom;
+        return sseStreamService.stream(userPlan,
+                onDelta -> longDocumentSummarizer.streamSummarize(text, summarizeMode, onDelta),
+                result -> saveSummaryResult(memberId, text, result,
+                        summaryRequestDTO.getFolderId(), summaryRequestDTO.getHistoryId(), mode, customValue, userPlan, reservation),
+                () -> tokenQuotaService.refund(reservation)
+        );
+    }
 
-        long remainingToken = 0;
+    // 1. 요약 메서드
+    //  - 읽기(요금제/남은 토큰 확인) -> 원격 호출(트랜잭션 없음) -> 쓰기(content 는 짧은 트랜잭션, 사용량은 Redis 스트림) 3단계
+    //  - 서비스 전체에 @Transactional 을 걸지 않아 OpenAI 응답을 기다리는 동안 DB 커넥션을 잡지 않음
+    private CompletableFuture<SummaryResponseDTO> summary(String memberId,
+                                                          String summarizeRequestedText,
+                                                          String summarizeMode,
+                                                          Long folderId,
+                                                          Long historyId,
+                                                          String mode, String custom){
 
         // 1. 로그인한 멤버 정보 가져오기 - 멤버의 요금제 정보
-        Member member=memberRepository.findById(memberId).orElseThrow(()->new BusinessLogicException(MemberErrorCode.USER_NOT_FOUND));
+        Plan userPlan = findMemberPlan(memberId);
 
-        // 2. 요금제 정책에 따라 다음 로직 분기
-        // 2-1. 남은 월 토큰 확인 (DB나 Redis에서 누적 사용량 조회)
-        Plan userPlan = Plan.fromId(member.getPlanId());
-        if(userPlan != Plan.PRO){
-            remainingToken = validateRemainingMonthlyTokens(memberId, userPlan, summarizeRequestedText);
-        }
+        // 2. 남은 월 토큰 확인 + 예상 토큰 선차감 (Redis Lua 스크립트로 원자적 처리)
+        TokenQuotaService.Reservation reservation = reserveMemberTokens(memberId, userPlan, summarizeRequestedText);
 
         // 3. 요약 처리 (service 호출)
-        String result = openAIService.callSummaryOpenAI(summarizeRequestedText, summarizeMode);
+        //    - llmExecutor 에서 실행하여 톰캣 요청 스레드와 DB 커넥션을 OpenAI 응답 동안 붙잡지 않음
+        //    - 요금제별 동시 실행 한도 초과 시 429
+        //    - 긴 글은 조각별 부분 요약 후 합쳐서 최종 요약 (LongDocumentSummarizer)
+        CompletableFuture<SummaryResponseDTO> future;
+        try {
+            future = llmExecutionService.submit(userPlan, () -> {
+                OpenAIResultDTO result = longDocumentSummarizer.summarize(summarizeRequestedText, summarizeMode);
+
+                // 4~6. 저장 및 사용량 반영
+                return saveSummaryResult(memberId, summarizeRequestedText, result, folderId, historyId, mode, custom, userPlan, reservation);
+            });
+        } catch (RuntimeException e) {
+            // 동시 실행 한도 초과 등으로 시작하지 못한 경우 선차감 반환
+            tokenQuotaService.refund(reservation);
+            throw e;
+        }
 
-        // 4. 내용 저장 (Content로 저장)
-        HistoryMetaDTO metaDTO = saveSummaryContent(  // ★ 변경됨
+        // 실패 시 선차감 반환 (저장까지 끝난 요청은 이미 보정되어 무시됨)
+        return future.whenComplete((response, ex) -> {
+            if (ex != null) {
+                tokenQuotaService.refund(reservation);
+            }
+        });
+    }
+
+    private Plan findMemberPlan(String memberId){
+        return memberPlanCache.getPlan(memberId);
+    }
+
+    // 2. 남은 월 토큰 확인 + 예상 토큰(입력 텍스트) 선차감 - 한도 초과 시 예외
+    //    - PRO 도 사용량 집계를 위해 선차감 (한도는 사실상 무제한)
+    private TokenQuotaService.Reservation reserveMemberTokens(String memberId, Plan userPlan, String text){
+        int requestedTokens = GptTokenUtil.countTokens(text);
+        TokenQuotaService.Reservation reservation = tokenQuotaService.reserve(memberId, userPlan, requestedTokens);
+        if (!reservation.isGranted()) {
+            throw new BusinessLogicException(SummaryErrorCode.MONTHLY_TOKEN_LIMIT_EXCEEDED, String.format("월 토큰 한도를 초과하였습니다. (요청: %d, 남음: %d)", requestedTokens, reservation.getRemaining()));
+        }
+        return reservation;
+    }
+
+    // 4~6. 요약 결과 저장, 사용량 업데이트, 응답 생성
+    private SummaryResponseDTO saveSummaryResult(String memberId, String summarizeRequestedText, OpenAIResultDTO result,
+                                                 Long folderId, Long historyId, String mode, String custom,
+                                                 Plan userPlan, TokenQuotaService.Reservation reservation){
+        // 4~5. 내용 저장(Content) + 월 토큰 사용량 기록
+        //      - content 만 OpenAI 응답을 받은 뒤 appendContent 의 짧은 트랜잭션으로 저장 (사용량은 트랜잭션 밖에서 기록)
+        //      - 사용량은 선차감한 달 기준으로 기록 (월이 바뀌는 순간에도 Redis 한도 키와 같은 달에 반영)
+        String month = reservation.getMonth();
+        //      - 사용량은 OpenAI 응답의 usage 블록(프롬프트 + 결과 토큰) 기준, 없으면 토크나이저로 계산
+        //      - 결과 캐시 적중 시 사용량 반영 여부는 openai.cache.charge-on-hit 정책을 따름
+        //      - 업스트림 실패(에러 결과)는 차감하지 않음
+        boolean failed = result.failed();
+        int usedTokens = failed || (result.cached() && !gptConfig.isCacheChargeOnHit())
+                ? 0 : GptTokenUtil.usedTokens(summarizeRequestedText, result);
+        HistoryMetaDTO metaDTO = summaryHistoryService.appendContent(
                 memberId,
                 folderId,
                 historyId,
                 summarizeRequestedText,  // 원본 텍스트
-                result,                    // 요약 결과
+                result.content(),          // 요약 결과
                 mode,
                 custom
         );
 
-        // 5. 사용량 업데이트
-        //    - 월 토큰 사용량 증가
-        incrementMonthlyUsage(memberId, YearMonth.now().toString(), GptTokenUtil.estimateTokenCount(summarizeRequestedText));
+        //      - DB 사용량은 요청마다 갱신하지 않고 Redis 스트림에 기록 후 주기적으로 일괄 반영 (write-behind)
+        if (usedTokens > 0) {
+            tokenUsageWriteBehindService.record(memberId, month, usedTokens);
+        }
+
+        // 선차감한 토큰을 실제 사용량으로 보정 - DB 커밋 이후 반영
+        tokenQuotaService.reconcile(reservation, usedTokens);
+        long remainingToken = userPlan == Plan.PRO
+                ? 0 : Math.max(0, reservation.getRemaining() + reservation.getReservedTokens() - usedTokens);
 
         // 6. result return
         SummaryResponseDTO responseDTO = SummaryResponseDTO.builder()
                 .historyId(metaDTO.id())
                 .name(metaDTO.name())
                 .originalText(summarizeRequestedText)
-                .summarizedText(result)
+                .summarizedText(result.content())
                 .sequenceNumber(metaDTO.sequenceNumber())
                 .remainingToken(remainingToken)
                 .build();
         return responseDTO;
     }
-    
-    // 4. Content 저장 로직
-    private HistoryMetaDTO saveSummaryContent(String memberId, Long folderId, Long historyId, 
-                                               String originalText, String summarizedText, String mode, String custom) {
-        SummaryHistory history;
-        Integer nextSequenceNumber;
-        
-        if (historyId != null) {
-            // 기존 히스토리에 content 추가
-            history = summaryHistoryRepository.findById(historyId)
-                    .orElseThrow(() -> new BusinessLogicException(SummaryErrorCode.HISTORY_NOT_FOUND));
-            
-            // 현재 content 개수 확인하여 다음 sequence number 계산
-            Long contentCount = summaryContentRepository.countByHistoryId(historyId);
-            nextSequenceNumber = contentCount.intValue() + 1;
-            
-            // 10개 초과 시 가장 오래된 content 삭제
-            if (contentCount >= 10) {
-                summaryContentRepository.findByHistoryIdOrderBySequenceNumberDesc(historyId)
-                        .stream()
-                        .skip(9)  // 최신 9개는 유지
-                        .forEach(summaryContentRepository::delete);
-            }
-        } else {
-            // 새 히스토리 생성
-            history = summaryHistoryService.createNewHistory(memberId, folderId);
-            nextSequenceNumber = 1;
-        }
-
-        SummaryContent content;
-
-        // Content 생성 및 저장
-        if(mode.equals("question-based")){
-            content = SummaryContent.builder()
-                    .history(history)
-                    .originalText(originalText)
-                    .summarizedText(summarizedText)
-                    .sequenceNumber(nextSequenceNumber)
-                    .mode(mode)
-                    .question(custom)
-                    .build();
-        } else if(mode.equals("targeted")) {
-            content = SummaryContent.builder()
-                    .history(history)
-                    .originalText(originalText)
-                    .summarizedText(summarizedText)
-                    .sequenceNumber(nextSequenceNumber)
-                    .mode(mode)
-                    .target(custom)
-                    .build();
-        } else{
-            content = SummaryContent.builder()
-                    .history(history)
-                    .originalText(originalText)
-                    .summarizedText(summarizedText)
-                    .sequenceNumber(nextSequenceNumber)
-                    .mode(mode)
-                    .build();
-        }
-
-        
-        summaryContentRepository.save(content);
-        
-        // HistoryMetaDTO 반환
-        return new HistoryMetaDTO(history.getId(), history.getName(), nextSequenceNumber);
-    }
-
-    private long validateRemainingMonthlyTokens(String memberId, Plan plan, String text){
-
-        // 1. 현재까지 사용량
-        long usedTokensThisMonth = findOrInitializeMonthlyUsage(memberId, YearMonth.now().toString());
-
-        // 2. 요청 텍스트 토큰 수
-        int requestedTokens = GptTokenUtil.estimateTokenCount(text);
-
-        // 3. 남은 토큰
-        long remaining = plan.getMaxTokensPerMonth() - usedTokensThisMonth;
-
-        // 4. 남은 월 토큰 < 요청 토큰이면 → 에러 응답 반환
-        if (remaining < requestedTokens) {
-            throw new BusinessLogicException(SummaryErrorCode.MONTHLY_TOKEN_LIMIT_EXCEEDED, String.format("월 토큰 한도를 초과하였습니다. (요청: %d, 남음: %d)", requestedTokens, remaining));
-        }
-        return remaining - requestedTokens;
-    }
-
-    private long findOrInitializeMonthlyUsage(String memberId, String month){
-        // 1. Redis에서 조회
-        Long value = redisService.getMonthlyUsage(memberId, month);
-        if (value >= 0) {
-            // Redis에 값이 있으면 바로 반환
-            return value;
-        }
-
-        // 2-1. Redis에 없으면 DB에서 조회
-        long used = tokenUsageService.findOrInitializeUsedTokens(memberId, month);
-        redisService.setMonthlyUsage(memberId, month, used);
-        return used;
-    }
-
-    private void incrementMonthlyUsage (String memberId, String month, long increment){
-        long after = tokenUsageService.incrementUsedTokens(memberId, month, increment);
-        // 캐시 동기화(정합성 보장)
-        redisService.incrementMonthlyUsage(memberId, month, increment);
-    }
-
-
 
     /* ---------- 파일 업로드 ---------- */
-    public SummaryResponseDTO uploadFile(String memberId, MultipartFile file, String mode, String target, String question, Long historyId, Long folderId) {
-        String text = "";
+    public CompletableFuture<SummaryResponseDTO> uploadFile(String memberId, MultipartFile file, String mode, String target, String question, Long historyId, Long folderId) {
         // free 요금제 사용자는 사용 불가능
-        Member member=memberRepository.findById(memberId).orElseThrow(()->new BusinessLogicException(MemberErrorCode.USER_NOT_FOUND));
-        Plan userPlan = Plan.fromId(member.getPlanId());
+        Plan userPlan = memberPlanCache.getPlan(memberId);
         if(userPlan == Plan.FREE){
             throw new BusinessLogicException(SummaryErrorCode.PLAN_NOT_ACCESSED);
         }
@@ -274,21 +246,11 @@ public class SummaryService {
             throw new BusinessLogicException(SummaryErrorCode.FILE_INVALID_FORMAT);
         }
         // 파일 용량 검사
-        if (file.getSize() > 2 * 1024 * 1024) { // 2MB 초과
+        if (file.getSize() > pdfTextExtractor.getMaxFileSize().toBytes()) {
             throw new BusinessLogicException(SummaryErrorCode.FILE_TOO_LARGE);
         }
 
-
-        // 텍스트 추출
-        try (PDDocument document = PDDocument.load(file.getInputStream())) {
-            PDFTextStripper stripper = new PDFTextStripper();
-            text = stripper.getText(document);
-        } catch (IOException e) {
-            e.printStackTrace();
-            throw new BusinessLogicException(SummaryErrorCode.FILE_READ_FAILED);
-        }
-
-        // 선택된 요약 모드 확인
+        // 선택된 요약 모드 확인 - 추출 전에 검증
         SummaryPrompt prompt;
         try {
             // "one-line" -> "ONE_LINE" 변환
@@ -297,6 +259,18 @@ public class SummaryService {
             throw new BusinessLogicException(SummaryErrorCode.INVALID_MODE);
         }
 
+        // 텍스트 추출 - pdfExecutor 에서 추출이 끝나면 요약 진행 (요청 스레드에서 추출하지 않음)
+        return pdfTextExtractor.extract(file)
+                .thenCompose(text -> summarizeExtractedText(memberId, text, prompt, mode, target, question, historyId, folderId));
+    }
+
+    private CompletableFuture<SummaryResponseDTO> summarizeExtractedText(String memberId, String text, SummaryPrompt prompt,
+                                                                        String mode, String target, String question,
+                                                                        Long historyId, Long folderId) {
+        if (text.isBlank()) {
+            throw new BusinessLogicException(SummaryErrorCode.FILE_TEXT_EMPTY);
+        }
+
         // 프롬프트에 삽입
         if (prompt == SummaryPrompt.TARGETED){
             SummaryRequestDTO requestDTO = SummaryRequestDTO.builder()
@@ -0,0 +1,67 @@
+package com.phraiz.back.cite.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 저장해 둔 사이트 페이지(cite/golden/{site}.html) 에서 추출한 결과가 기대값({site}.json) 과 같은지 확인
+// 새 사이트를 추가할 때는 추출기 + 페이지/기대값 파일을 추가하고 아래 목록에 등록
+class SiteMetadataExtractorGoldenTest {
+
+    private static final String GOLDEN_DIR = "/cite/golden/";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SiteMetadataExtractorRegistry registry = new SiteMetadataExtractorRegistry(List.of(
+            new DbpiaMetadataExtractor(),
+            new KissMetadataExtractor(),
+            new KyoboMetadataExtractor()));
+
+    record Golden(String url, SiteMetadata metadata) {
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"dbpia", "kiss", "kyobo"})
+    void extractsSavedPage(String site) throws IOException {
+        Golden golden;
+        try (InputStream json = getClass().getResourceAsStream(GOLDEN_DIR + site + ".json")) {
+            golden = objectMapper.readValue(json, Golden.class);
+        }
+
+        SiteMetadataExtractor extractor = registry.find(golden.url()).orElseThrow();
+        assertThat(extractor.name()).isEqualTo(site);
+
+        Document doc;
+        try (InputStream html = getClass().getResourceAsStream(GOLDEN_DIR + site + ".html")) {
+            doc = Jsoup.parse(html, null, golden.url());
+        }
+        assertThat(extractor.extract(doc)).isEqualTo(golden.metadata());
+    }
+
+    @Test
+    void findsExtractorByHostIncludingSubdomains() {
+        assertThat(registry.find("https://dbpia.co.kr/journal/articleDetail?nodeId=1"))
+                .get().extracting(SiteMetadataExtractor::name).isEqualTo("dbpia");
+        assertThat(registry.find("HTTPS://WWW.DBPIA.CO.KR/journal"))
+                .get().extracting(SiteMetadataExtractor::name).isEqualTo("dbpia");
+        assertThat(registry.find("https://example.com/?u=dbpia.co.kr")).isEmpty();
+        assertThat(registry.find("https://notdbpia.co.kr/")).isEmpty();
+        assertThat(registry.find("not a url")).isEmpty();
+    }
+
+    @Test
+    void rejectsDuplicateHosts() {
+        assertThatThrownBy(() -> new SiteMetadataExtractorRegistry(List.of(
+                new DbpiaMetadataExtractor(), new DbpiaMetadataExtractor())))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
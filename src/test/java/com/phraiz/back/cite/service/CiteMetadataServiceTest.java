@@ -0,0 +1,123 @@
+package com.phraiz.back.cite.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phraiz.back.cite.dto.response.ZoteroItem;
+import com.phraiz.back.cite.exception.CiteErrorCode;
+import com.phraiz.back.cite.parser.SiteMetadata;
+import com.phraiz.back.common.exception.custom.BusinessLogicException;
+import com.phraiz.back.common.exception.custom.InternalServerException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 실패 결과 캐시 - 메타데이터 추출 실패만 캐시하고 일시적인 오류(번역 서버, 사이트 수집 실패) 는 캐시하지 않는지
+class CiteMetadataServiceTest {
+
+    private static final String URL = "https://www.dbpia.co.kr/journal/articleDetail?nodeId=NODE1";
+
+    private final CiteTranslationService citeTranslationService = mock(CiteTranslationService.class);
+    private final CiteSiteScraper citeSiteScraper = mock(CiteSiteScraper.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+
+    private CiteMetadataService service;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        service = new CiteMetadataService(citeTranslationService, citeSiteScraper, redisTemplate, new ObjectMapper(),
+                new SimpleMeterRegistry(), 3600, 600, 100, 3600, false);
+    }
+
+    @Test
+    void cachesNotResolvableUrl() {
+        given(citeTranslationService.translateFromUrl(URL))
+                .willThrow(new BusinessLogicException(CiteErrorCode.METADATA_EXTRACTION_FAILED));
+
+        assertThatThrownBy(() -> service.resolve(URL)).isInstanceOf(BusinessLogicException.class);
+
+        verify(valueOperations).set(anyString(), eq("!"), eq(Duration.ofSeconds(600)));
+    }
+
+    @Test
+    void doesNotCacheTransientFailures() {
+        given(citeTranslationService.translateFromUrl(URL))
+                .willThrow(new InternalServerException(CiteErrorCode.TRANSLATION_SERVER_ERROR))
+                .willThrow(new InternalServerException(CiteErrorCode.TRANSLATION_BUSY));
+
+        assertThatThrownBy(() -> service.resolve(URL)).isInstanceOf(InternalServerException.class);
+        assertThatThrownBy(() -> service.resolve(URL)).isInstanceOf(InternalServerException.class);
+
+        // 다음 요청은 다시 번역 서버로
+        verify(citeTranslationService, times(2)).translateFromUrl(URL);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void cachesPageWithoutAuthors() {
+        given(citeTranslationService.translateFromUrl(URL)).willReturn(itemWithoutAuthors());
+        CompletableFuture<SiteMetadata> future = CompletableFuture.completedFuture(SiteMetadata.EMPTY);
+        given(citeSiteScraper.fetch(URL)).willReturn(future);
+        given(citeSiteScraper.await(future)).willReturn(Optional.of(SiteMetadata.EMPTY));
+
+        assertThatThrownBy(() -> service.resolve(URL))
+                .isInstanceOfSatisfying(BusinessLogicException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(CiteErrorCode.METADATA_EXTRACTION_FAILED));
+
+        verify(valueOperations).set(anyString(), eq("!"), eq(Duration.ofSeconds(600)));
+    }
+
+    @Test
+    void doesNotCacheScrapeFailure() {
+        given(citeTranslationService.translateFromUrl(URL)).willReturn(itemWithoutAuthors());
+        CompletableFuture<SiteMetadata> future = new CompletableFuture<>();
+        given(citeSiteScraper.fetch(URL)).willReturn(future);
+        given(citeSiteScraper.await(future)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.resolve(URL))
+                .isInstanceOfSatisfying(InternalServerException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(CiteErrorCode.SITE_SCRAPE_FAILED));
+
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void fillsAuthorsFromPage() {
+        given(citeTranslationService.translateFromUrl(URL)).willReturn(itemWithoutAuthors());
+        SiteMetadata site = new SiteMetadata("제목", "학술지", "2024", null, List.of("홍길동"));
+        CompletableFuture<SiteMetadata> future = CompletableFuture.completedFuture(site);
+        given(citeSiteScraper.fetch(URL)).willReturn(future);
+        given(citeSiteScraper.await(future)).willReturn(Optional.of(site));
+
+        ZoteroItem item = service.resolve(URL);
+
+        assertThat(item.getCreators()).extracting("lastName").containsExactly("홍길동");
+        assertThat(item.getPublicationTitle()).isEqualTo("학술지");
+        verify(valueOperations).set(anyString(), anyString(), eq(Duration.ofSeconds(3600)));
+    }
+
+    private ZoteroItem itemWithoutAuthors() {
+        ZoteroItem item = new ZoteroItem();
+        item.setTitle("제목");
+        return item;
+    }
+}
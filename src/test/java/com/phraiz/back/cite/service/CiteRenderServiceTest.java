@@ -0,0 +1,185 @@
+package com.phraiz.back.cite.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phraiz.back.cite.dto.response.CitationRenderDTO;
+import com.phraiz.back.cite.exception.CiteErrorCode;
+import com.phraiz.back.common.exception.GlobalErrorCode;
+import com.phraiz.back.common.exception.custom.BusinessLogicException;
+import com.phraiz.back.common.exception.custom.InternalServerException;
+import de.undercouch.citeproc.csl.CSLItemData;
+import de.undercouch.citeproc.csl.CSLType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// citeproc 인스턴스 풀 - 재사용한 인스턴스도 요청한 형식으로 생성하는지, 실패한 인스턴스는 버리는지
+class CiteRenderServiceTest {
+
+    private static final String CSL_JSON = """
+            {"type": "article-journal",
+             "title": "Generative AI in Writing",
+             "author": [{"family": "Kim", "given": "Minsu"}],
+             "container-title": "Journal of Writing",
+             "volume": "12", "issue": "3", "page": "45-67",
+             "issued": {"date-parts": [[2024]]},
+             "DOI": "10.1000/abc"}
+            """;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CiteRenderService renderService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        renderService = new CiteRenderService(new ObjectMapper(), meterRegistry, 3, 16, 16, 4);
+    }
+
+    @Test
+    void apaText() {
+        CitationRenderDTO result = render("apa", "text");
+
+        assertThat(result.citation()).isEqualTo("(Kim, 2024)");
+        assertThat(result.bibliography())
+                .startsWith("Kim, M. (2024). Generative AI in Writing. Journal of Writing, 12(3), 45")
+                .contains("https://doi.org/10.1000/abc")
+                .doesNotContain("<");
+    }
+
+    @Test
+    void apaHtml() {
+        CitationRenderDTO result = render("apa", "html");
+
+        assertThat(result.citation()).isEqualTo("(Kim, 2024)");
+        assertThat(result.bibliography())
+                .contains("<div class=\"csl-bib-body\">", "<div class=\"csl-entry\">", "<span style=\"font-style: italic\">Journal of Writing</span>");
+    }
+
+    @Test
+    void ieeeText() {
+        CitationRenderDTO result = render("ieee", "text");
+
+        assertThat(result.citation()).isEqualTo("[1]");
+        assertThat(result.bibliography())
+                .startsWith("[1]")
+                .contains("M. Kim", "Journal of Writing", "vol. 12", "no. 3", "doi: 10.1000/abc")
+                .doesNotContain("<");
+    }
+
+    @Test
+    void ieeeHtml() {
+        CitationRenderDTO result = render("ieee", "html");
+
+        assertThat(result.citation()).isEqualTo("[1]");
+        assertThat(result.bibliography()).contains("<div class=\"csl-bib-body\">", "M. Kim");
+    }
+
+    @Test
+    void reusedProcessorKeepsRequestedFormat() {
+        CitationRenderDTO firstText = render("apa", "text");
+        CitationRenderDTO secondText = render("apa", "text");
+        CitationRenderDTO firstHtml = render("apa", "html");
+        CitationRenderDTO secondHtml = render("apa", "html");
+
+        // 두 번째 요청은 풀에서 꺼낸 인스턴스 - reset 후에도 형식이 유지되어야 함
+        assertThat(createdProcessors()).isEqualTo(2);
+        assertThat(secondText).isEqualTo(firstText);
+        assertThat(secondText.bibliography()).doesNotContain("<");
+        assertThat(secondHtml).isEqualTo(firstHtml);
+        assertThat(secondHtml.bibliography()).contains("<div class=\"csl-bib-body\">");
+    }
+
+    @Test
+    void rendersEachRequestedStyleInOrder() {
+        List<CitationRenderDTO> result = renderService.render(1L, CSL_JSON, List.of("ieee", "apa", "ieee"), "en-US", "text");
+
+        assertThat(result).extracting(CitationRenderDTO::style).containsExactly("ieee", "apa");
+    }
+
+    @Test
+    void tooManyStylesIsInvalidInput() {
+        assertThatThrownBy(() -> renderService.render(1L, CSL_JSON, List.of("apa", "ieee", "harvard-cite-them-right", "modern-language-association"), "en-US", "text"))
+                .isInstanceOfSatisfying(BusinessLogicException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(GlobalErrorCode.INVALID_INPUT_VALUE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"no-such-style", "../apa", "APA"})
+    void unknownStyleIsNotSupported(String style) {
+        assertThatThrownBy(() -> renderService.render(1L, CSL_JSON, List.of(style), "en-US", "text"))
+                .isInstanceOfSatisfying(BusinessLogicException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(CiteErrorCode.STYLE_NOT_SUPPORTED));
+        // 없는 스타일로는 인스턴스를 만들지 않음
+        assertThat(createdProcessors()).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"xx-XX", "en_US", "../en-US"})
+    void unknownLocaleIsNotSupported(String locale) {
+        assertThatThrownBy(() -> renderService.render(1L, CSL_JSON, List.of("apa"), locale, "text"))
+                .isInstanceOfSatisfying(BusinessLogicException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(CiteErrorCode.STYLE_NOT_SUPPORTED));
+    }
+
+    @Test
+    void unknownFormatIsNotSupported() {
+        assertThatThrownBy(() -> renderService.render(1L, CSL_JSON, List.of("apa"), "en-US", "pdf"))
+                .isInstanceOfSatisfying(BusinessLogicException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(CiteErrorCode.STYLE_NOT_SUPPORTED));
+    }
+
+    @Test
+    void invalidCslJsonIsRenderFailure() {
+        assertThatThrownBy(() -> renderService.render(1L, "{\"author\": \"not a list\"}", List.of("apa"), "en-US", "text"))
+                .isInstanceOfSatisfying(InternalServerException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(CiteErrorCode.RENDER_FAILED));
+    }
+
+    @Test
+    void failedProcessorIsNotReused() {
+        // citeproc 이 항목을 읽는 도중 예외
+        CSLItemData broken = new CSLItemData() {
+            @Override
+            public String getId() {
+                return "1";
+            }
+
+            @Override
+            public CSLType getType() {
+                return CSLType.ARTICLE_JOURNAL;
+            }
+
+            @Override
+            public String getTitle() {
+                throw new IllegalStateException("broken item");
+            }
+        };
+
+        assertThatThrownBy(() -> renderService.renderItems(List.of(broken), List.of("apa"), "en-US", "text"))
+                .isInstanceOfSatisfying(InternalServerException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(CiteErrorCode.RENDER_FAILED));
+        assertThat(createdProcessors()).isEqualTo(1);
+
+        // 실패한 인스턴스는 풀에 돌아가지 않으므로 새로 만들고, 이후에는 그 인스턴스를 재사용
+        assertThat(render("apa", "text").citation()).isEqualTo("(Kim, 2024)");
+        assertThat(createdProcessors()).isEqualTo(2);
+        render("apa", "text");
+        assertThat(createdProcessors()).isEqualTo(2);
+    }
+
+    private CitationRenderDTO render(String style, String format) {
+        List<CitationRenderDTO> result = renderService.render(1L, CSL_JSON, List.of(style), "en-US", format);
+        assertThat(result).hasSize(1);
+        return result.get(0);
+    }
+
+    private double createdProcessors() {
+        return meterRegistry.get("cite.render.processor.created").counter().count();
+    }
+}
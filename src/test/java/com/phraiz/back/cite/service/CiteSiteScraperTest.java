@@ -0,0 +1,151 @@
+package com.phraiz.back.cite.service;
+
+import com.phraiz.back.cite.parser.SiteMetadata;
+import com.phraiz.back.cite.parser.SiteMetadataExtractor;
+import com.phraiz.back.cite.parser.SiteMetadataExtractorRegistry;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 수집 실패(시간 초과, 오류 응답, 스레드 풀 포화) 와 아무것도 못 찾은 페이지(EMPTY) 를 구분하는지
+class CiteSiteScraperTest {
+
+    private static final long TIMEOUT_MS = 300;
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private CloseableHttpClient httpClient;
+    private String baseUrl;
+
+    // 로컬 서버를 처리하는 추출기 - <meta name="author"> 만 읽음
+    private final SiteMetadataExtractor extractor = new SiteMetadataExtractor() {
+        @Override
+        public String name() {
+            return "local";
+        }
+
+        @Override
+        public Set<String> hosts() {
+            return Set.of("127.0.0.1");
+        }
+
+        @Override
+        public SiteMetadata extract(Document doc) {
+            List<String> authors = doc.select("meta[name=author]").eachAttr("content");
+            return authors.isEmpty() ? SiteMetadata.EMPTY : new SiteMetadata(null, null, null, null, authors);
+        }
+    };
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/authors", exchange -> respond(exchange, 200,
+                "<html><head><meta name=\"author\" content=\"홍길동\"></head></html>"));
+        server.createContext("/no-authors", exchange -> respond(exchange, 200, "<html><head></head></html>"));
+        server.createContext("/error", exchange -> respond(exchange, 500, "error"));
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(TIMEOUT_MS * 5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "<html></html>");
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        executor = Executors.newFixedThreadPool(2);
+        httpClient = HttpClients.createDefault();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.stop(0);
+        executor.shutdownNow();
+        httpClient.close();
+    }
+
+    @Test
+    void returnsExtractedMetadata() {
+        CiteSiteScraper scraper = scraper(executor);
+
+        assertThat(scraper.await(scraper.fetch(baseUrl + "/authors")))
+                .get().extracting(SiteMetadata::authors).isEqualTo(List.of("홍길동"));
+    }
+
+    @Test
+    void pageWithoutMetadataIsEmptyAndCached() {
+        CiteSiteScraper scraper = scraper(executor);
+
+        assertThat(scraper.await(scraper.fetch(baseUrl + "/no-authors"))).contains(SiteMetadata.EMPTY);
+        // 두 번째 요청은 캐시에서 바로 완료
+        server.removeContext("/no-authors");
+        assertThat(scraper.fetch(baseUrl + "/no-authors")).isCompletedWithValue(SiteMetadata.EMPTY);
+    }
+
+    @Test
+    void unsupportedHostIsEmpty() {
+        CiteSiteScraper scraper = scraper(executor);
+
+        assertThat(scraper.await(scraper.fetch("https://example.com/paper"))).contains(SiteMetadata.EMPTY);
+    }
+
+    @Test
+    void timeoutIsFailureAndNotCached() {
+        CiteSiteScraper scraper = scraper(executor);
+
+        assertThat(scraper.await(scraper.fetch(baseUrl + "/slow"))).isEmpty();
+        assertThat(scraper.fetch(baseUrl + "/slow")).isNotDone();
+    }
+
+    @Test
+    void errorResponseIsFailure() {
+        CiteSiteScraper scraper = scraper(executor);
+
+        assertThat(scraper.await(scraper.fetch(baseUrl + "/error"))).isEmpty();
+    }
+
+    @Test
+    void rejectedTaskIsFailure() {
+        CiteSiteScraper scraper = scraper(task -> {
+            throw new RejectedExecutionException("full");
+        });
+
+        assertThat(scraper.await(scraper.fetch(baseUrl + "/authors"))).isEmpty();
+    }
+
+    private CiteSiteScraper scraper(Executor executor) {
+        return new CiteSiteScraper(new SiteMetadataExtractorRegistry(List.of(extractor)), httpClient, executor,
+                new SimpleMeterRegistry(), new MockEnvironment(), TIMEOUT_MS, 1000, 100, 60);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.phraiz.back.cite.service;
+
+import com.phraiz.back.cite.exception.CiteErrorCode;
+import com.phraiz.back.common.exception.custom.BusinessLogicException;
+import com.phraiz.back.common.exception.custom.InternalServerException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+// 번역 서버 응답별 예외 구분 - URL 을 처리할 수 없는 응답만 메타데이터 추출 실패, 나머지는 일시적인 오류
+//  - 연결 실패/타임아웃은 CIT008, 동시 요청 한도(bulkhead) 초과는 CIT007
+class CiteTranslationServiceTest {
+
+    private static final String ZOTERO_URL = "http://zotero.test/web";
+    private static final String PAGE_URL = "https://www.dbpia.co.kr/journal/articleDetail?nodeId=NODE1";
+
+    private SimpleMeterRegistry meterRegistry;
+    private MockRestServiceServer server;
+    private CiteTranslationService service;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        meterRegistry = new SimpleMeterRegistry();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        // 동시 요청 1개, 자리 대기 100ms
+        service = new CiteTranslationService(restTemplate, meterRegistry, ZOTERO_URL, 1, 100);
+    }
+
+    @Test
+    void returnsFirstItem() {
+        server.expect(requestTo(ZOTERO_URL))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess("[{\"itemType\":\"journalArticle\",\"title\":\"제목\"}]", MediaType.APPLICATION_JSON));
+
+        assertThat(service.translateFromUrl(PAGE_URL).getTitle()).isEqualTo("제목");
+        server.verify();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {400, 404, 415})
+    void notResolvableStatusIsExtractionFailure(int status) {
+        server.expect(requestTo(ZOTERO_URL)).andRespond(withStatus(HttpStatus.valueOf(status)));
+
+        assertThatThrownBy(() -> service.translateFromUrl(PAGE_URL))
+                .isInstanceOfSatisfying(BusinessLogicException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(CiteErrorCode.METADATA_EXTRACTION_FAILED));
+    }
+
+    @Test
+    void emptyResultIsExtractionFailure() {
+        server.expect(requestTo(ZOTERO_URL)).andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        assertThatThrownBy(() -> service.translateFromUrl(PAGE_URL))
+                .isInstanceOfSatisfying(BusinessLogicException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(CiteErrorCode.METADATA_EXTRACTION_FAILED));
+    }
+
+    @Test
+    void tooManyRequestsIsBusy() {
+        server.expect(requestTo(ZOTERO_URL)).andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+
+        assertThatThrownBy(() -> service.translateFromUrl(PAGE_URL))
+                .isInstanceOfSatisfying(InternalServerException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(CiteErrorCode.TRANSLATION_BUSY));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {403, 500, 501, 503})
+    void otherErrorStatusIsServerError(int status) {
+        server.expect(requestTo(ZOTERO_URL)).andRespond(withStatus(HttpStatus.valueOf(status)));
+
+        assertThatThrownBy(() -> service.translateFromUrl(PAGE_URL))
+                .isInstanceOfSatisfying(InternalServerException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(CiteErrorCode.TRANSLATION_SERVER_ERROR));
+    }
+
+    @Test
+    void readTimeoutIsServerError() {
+        server.expect(requestTo(ZOTERO_URL)).andRespond(withException(new SocketTimeoutException("Read timed out")));
+
+        assertThatThrownBy(() -> service.translateFromUrl(PAGE_URL))
+                .isInstanceOfSatisfying(InternalServerException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(CiteErrorCode.TRANSLATION_SERVER_ERROR));
+    }
+
+    @Test
+    void connectFailureIsServerError() {
+        server.expect(requestTo(ZOTERO_URL)).andRespond(withException(new ConnectException("Connection refused")));
+
+        assertThatThrownBy(() -> service.translateFromUrl(PAGE_URL))
+                .isInstanceOfSatisfying(InternalServerException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(CiteErrorCode.TRANSLATION_SERVER_ERROR));
+    }
+
+    @Test
+    void saturatedBulkheadIsBusyAndReleasesPermitAfterward() throws Exception {
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        server.expect(requestTo(ZOTERO_URL)).andRespond(request -> {
+            // 첫 요청이 자리를 차지한 채 응답을 늦춤
+            inFlight.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return withSuccess("[{\"title\":\"첫 요청\"}]", MediaType.APPLICATION_JSON).createResponse(request);
+        });
+        server.expect(requestTo(ZOTERO_URL))
+                .andRespond(withSuccess("[{\"title\":\"다음 요청\"}]", MediaType.APPLICATION_JSON));
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> service.translateFromUrl(PAGE_URL).getTitle());
+        assertThat(inFlight.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 자리가 없으면 acquire-timeout 후 거절 - 번역 서버는 호출하지 않음
+        assertThatThrownBy(() -> service.translateFromUrl(PAGE_URL))
+                .isInstanceOfSatisfying(InternalServerException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(CiteErrorCode.TRANSLATION_BUSY));
+        assertThat(meterRegistry.get("zotero.translation.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("zotero.translation.inflight").gauge().value()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("첫 요청");
+
+        // 첫 요청이 끝나면 자리가 반납되어 다음 요청은 처리됨
+        assertThat(service.translateFromUrl(PAGE_URL).getTitle()).isEqualTo("다음 요청");
+        assertThat(meterRegistry.get("zotero.translation.inflight").gauge().value()).isZero();
+        server.verify();
+    }
+}
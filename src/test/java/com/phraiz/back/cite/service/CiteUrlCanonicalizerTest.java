@@ -0,0 +1,79 @@
+package com.phraiz.back.cite.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 논문을 가리키는 URL 이 같은 캐시 키가 되는지, 잘못된 URL 에서도 예외 없이 키를 만드는지
+class CiteUrlCanonicalizerTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "https://doi.org/10.1000/ABC.123",
+            "http://dx.doi.org/10.1000/abc.123",
+            "https://link.example.com/article/10.1000/abc.123?utm_source=x",
+            "https://example.com/view?doi=10.1000%2Fabc.123",
+            "https://doi.org/10.1000/abc.123.",
+            "  https://doi.org/10.1000/abc.123  "
+    })
+    void doiUrlsShareOneKey(String url) {
+        assertThat(CiteUrlCanonicalizer.canonicalize(url)).isEqualTo("doi:10.1000/abc.123");
+    }
+
+    @Test
+    void plusInDoiIsNotDecodedAsSpace() {
+        assertThat(CiteUrlCanonicalizer.canonicalize("https://doi.org/10.1000/a+b"))
+                .isEqualTo("doi:10.1000/a+b");
+    }
+
+    @Test
+    void normalizesSchemeHostPortAndTrailingSlash() {
+        assertThat(CiteUrlCanonicalizer.canonicalize("http://WWW.DBpia.co.kr:443/journal/articleDetail/"))
+                .isEqualTo("https://dbpia.co.kr/journal/articleDetail");
+        assertThat(CiteUrlCanonicalizer.canonicalize("https://example.com:8443/a"))
+                .isEqualTo("https://example.com:8443/a");
+        assertThat(CiteUrlCanonicalizer.canonicalize("https://example.com"))
+                .isEqualTo("https://example.com/");
+    }
+
+    @Test
+    void dropsTrackingParamsSessionIdAndFragmentAndSortsQuery() {
+        String canonical = "https://dbpia.co.kr/journal/articleDetail?a=1&nodeId=NODE1";
+
+        assertThat(CiteUrlCanonicalizer.canonicalize(
+                "https://www.dbpia.co.kr/journal/articleDetail;jsessionid=ABC?nodeId=NODE1&utm_source=x&a=1&fbclid=y#top"))
+                .isEqualTo(canonical);
+        assertThat(CiteUrlCanonicalizer.canonicalize("https://dbpia.co.kr/journal/articleDetail?a=1&nodeId=NODE1"))
+                .isEqualTo(canonical);
+    }
+
+    @Test
+    void keepsDistinctPapersApart() {
+        assertThat(CiteUrlCanonicalizer.canonicalize("https://dbpia.co.kr/journal/articleDetail?nodeId=NODE1"))
+                .isNotEqualTo(CiteUrlCanonicalizer.canonicalize("https://dbpia.co.kr/journal/articleDetail?nodeId=NODE2"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "https://kiss.kstudy.com/search?q=100%",
+            "https://kiss.kstudy.com/search?q=%zz",
+            "https://kiss.kstudy.com/search?q=%E"
+    })
+    void malformedPercentEncodingDoesNotThrow(String url) {
+        assertThat(CiteUrlCanonicalizer.canonicalize(url)).isEqualTo(url);
+    }
+
+    @Test
+    void malformedPercentEncodingStillFindsDoi() {
+        assertThat(CiteUrlCanonicalizer.canonicalize("https://example.com/10.1000/abc.123?discount=100%"))
+                .isEqualTo("doi:10.1000/abc.123");
+    }
+
+    @Test
+    void nonUrlInputIsReturnedTrimmed() {
+        assertThat(CiteUrlCanonicalizer.canonicalize(" not a url ")).isEqualTo("not a url");
+        assertThat(CiteUrlCanonicalizer.canonicalize("/relative/path")).isEqualTo("/relative/path");
+    }
+}
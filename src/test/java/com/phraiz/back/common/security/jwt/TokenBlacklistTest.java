@@ -0,0 +1,254 @@
+package com.phraiz.back.common.security.jwt;
+
+import com.phraiz.back.common.util.HashUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+// 블랙리스트 - 실제 Redis(embedded) 로 filter/Redis 조회, pub/sub 전파, 만료, 이전 형식 키 이전을 확인
+class TokenBlacklistTest {
+
+    private static final String SECRET = "token-blacklist-test-secret-key-0123456789";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, TimeUnit.HOURS.toMillis(1), TimeUnit.DAYS.toMillis(14), 1000);
+    private RedisMessageListenerContainer listenerContainer;
+    // Redis 조회 여부 확인용
+    private StringRedisTemplate redisSpy;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        redisSpy = spy(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    @Test
+    void addedTokenIsBlacklisted() {
+        TokenBlacklist blacklist = node(redisTemplate, 600);
+        String token = jwtUtil.generateAccessToken("member", 1L);
+        JwtClaims claims = jwtUtil.parse(token);
+        String other = jwtUtil.generateAccessToken("member", 1L);
+
+        blacklist.add(claims, token);
+
+        assertThat(blacklist.isBlacklisted(claims, token)).isTrue();
+        assertThat(blacklist.isBlacklisted(jwtUtil.parse(other), other)).isFalse();
+        assertThat(redisTemplate.getExpire("BL:" + claims.jti(), TimeUnit.MILLISECONDS))
+                .isPositive()
+                .isLessThanOrEqualTo(TimeUnit.HOURS.toMillis(1));
+    }
+
+    @Test
+    void filterMissSkipsRedis() {
+        TokenBlacklist blacklist = node(redisSpy, 600);
+        JwtClaims claims = claims("unknown", 60_000);
+        // 동기화 이후 메시지 없이 Redis 에만 생긴 키 - 다음 재동기화 전까지는 filter 로 걸러짐
+        redisTemplate.opsForValue().set("BL:unknown", String.valueOf(claims.expiresAt().toEpochMilli()));
+        clearInvocations(redisSpy);
+
+        assertThat(blacklist.isBlacklisted(claims, "token")).isFalse();
+        verify(redisSpy, never()).hasKey(anyString());
+
+        blacklist.resync();
+        assertThat(blacklist.isBlacklisted(claims, "token")).isTrue();
+    }
+
+    @Test
+    void falsePositiveFallsBackToRedis() {
+        TokenBlacklist blacklist = node(redisSpy, 600);
+        JwtClaims claims = claims("ghost", 60_000);
+        // filter 에만 들어가고 Redis 키는 없는 경우 (오탐과 같은 상황)
+        redisTemplate.convertAndSend(TokenBlacklist.CHANNEL, "ghost:" + claims.expiresAt().toEpochMilli());
+
+        await(() -> {
+            clearInvocations(redisSpy);
+            assertThat(blacklist.isBlacklisted(claims, "token")).isFalse();
+            return hasKeyCalls() > 0;
+        });
+    }
+
+    @Test
+    void addIsPropagatedToOtherNodes() {
+        TokenBlacklist nodeA = node(redisTemplate, 600);
+        TokenBlacklist nodeB = node(redisSpy, 600);
+        String token = jwtUtil.generateAccessToken("member", 1L);
+        JwtClaims claims = jwtUtil.parse(token);
+        assertThat(nodeB.isBlacklisted(claims, token)).isFalse();
+
+        nodeA.add(claims, token);
+
+        // B 는 재동기화 없이 pub/sub 메시지만으로 반영
+        await(() -> nodeB.isBlacklisted(claims, token));
+    }
+
+    @Test
+    void expiredEntriesAreDropped() throws InterruptedException {
+        TokenBlacklist blacklist = node(redisTemplate, 1);
+        JwtClaims shortLived = claims("short", 1000);
+        JwtClaims expired = claims("expired", -1000);
+
+        blacklist.add(shortLived, "token");
+        blacklist.add(expired, "token");
+
+        assertThat(blacklist.isBlacklisted(shortLived, "token")).isTrue();
+        // 이미 만료된 토큰은 등록하지 않음
+        assertThat(redisTemplate.hasKey("BL:expired")).isFalse();
+
+        Thread.sleep(1500);
+        blacklist.resync();
+        assertThat(redisTemplate.hasKey("BL:short")).isFalse();
+        assertThat(blacklist.isBlacklisted(shortLived, "token")).isFalse();
+    }
+
+    @Test
+    void entriesAreKeptPerExpiryBucket() {
+        TokenBlacklist blacklist = node(redisSpy, 1);
+        JwtClaims claims = claims("jti", 5_000);
+        blacklist.add(claims, "token");
+        clearInvocations(redisSpy);
+
+        // 같은 id 라도 다른 만료 구간의 filter 에는 없음 -> Redis 조회 없이 통과
+        JwtClaims laterBucket = new JwtClaims("member", 1L, "jti", Instant.now(), claims.expiresAt().plusSeconds(10));
+        assertThat(blacklist.isBlacklisted(laterBucket, "token")).isFalse();
+        verify(redisSpy, never()).hasKey(anyString());
+
+        assertThat(blacklist.isBlacklisted(claims, "token")).isTrue();
+    }
+
+    @Test
+    void legacyKeysAreMigratedOnce() {
+        String first = legacyToken();
+        redisTemplate.opsForValue().set(first, "logout");
+        // 서명이 다른 키와 값이 다른 키는 옮기지 않음
+        redisTemplate.opsForValue().set("eyJnot-a-token", "logout");
+
+        TokenBlacklist nodeA = node(redisTemplate, 600);
+
+        String firstId = HashUtil.sha256Hex(first);
+        assertThat(redisTemplate.hasKey("BL:" + firstId)).isTrue();
+        assertThat(nodeA.isBlacklisted(jwtUtil.parse(first), first)).isTrue();
+        assertThat(redisTemplate.opsForValue().get(TokenBlacklist.LEGACY_MIGRATED_KEY)).isEqualTo("done");
+        // 원래 키는 이전 버전 서버가 읽으므로 남겨 둠
+        assertThat(redisTemplate.opsForValue().get(first)).isEqualTo("logout");
+
+        // 이후 재동기화와 새로 뜬 서버는 다시 스캔하지 않음
+        String second = legacyToken();
+        redisTemplate.opsForValue().set(second, "logout");
+        nodeA.resync();
+        node(redisTemplate, 600);
+        assertThat(redisTemplate.hasKey("BL:" + HashUtil.sha256Hex(second))).isFalse();
+    }
+
+    @Test
+    void legacyMigrationCanBeDisabled() {
+        String token = legacyToken();
+        redisTemplate.opsForValue().set(token, "logout");
+
+        TokenBlacklist blacklist = new TokenBlacklist(redisTemplate, listenerContainer, jwtUtil, false, 600, 1000, 0.001);
+        blacklist.resync();
+
+        assertThat(redisTemplate.hasKey("BL:" + HashUtil.sha256Hex(token))).isFalse();
+        assertThat(redisTemplate.hasKey(TokenBlacklist.LEGACY_MIGRATED_KEY)).isFalse();
+    }
+
+    // 서버 기동 직후처럼 첫 재동기화까지 마친 블랙리스트
+    private TokenBlacklist node(StringRedisTemplate template, long bucketSeconds) {
+        TokenBlacklist blacklist = new TokenBlacklist(template, listenerContainer, jwtUtil, true, bucketSeconds, 1000, 0.001);
+        blacklist.resync();
+        return blacklist;
+    }
+
+    private static JwtClaims claims(String jti, long expiresInMillis) {
+        Instant now = Instant.now();
+        return new JwtClaims("member", 1L, jti, now, now.plusMillis(expiresInMillis));
+    }
+
+    // 이전 버전이 발급한 토큰 - jti 없음
+    private static String legacyToken() {
+        Date now = new Date();
+        return Jwts.builder()
+                .setSubject("member-" + System.nanoTime())
+                .claim("memberId", 1L)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private long hasKeyCalls() {
+        return mockingDetails(redisSpy).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("hasKey"))
+                .count();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("5초 안에 조건을 만족해야 함").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
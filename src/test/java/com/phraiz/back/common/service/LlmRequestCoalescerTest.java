@@ -0,0 +1,129 @@
+package com.phraiz.back.common.service;
+
+import com.phraiz.back.common.dto.response.OpenAIResultDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+// 서버 내 병합(single-flight) - 동시에 들어온 같은 요청은 업스트림을 한 번만 호출하고 결과/실패를 함께 받는지
+class LlmRequestCoalescerTest {
+
+    private static final String KEY = "key";
+    private static final int REQUESTS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LlmRequestCoalescer coalescer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new LlmRequestCoalescer(mock(StringRedisTemplate.class), mock(LlmResultCache.class),
+                meterRegistry, false, 1000, 10);
+        executor = Executors.newFixedThreadPool(REQUESTS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdenticalRequestsCallUpstreamOnce() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<OpenAIResultDTO> upstream = () -> {
+            calls.incrementAndGet();
+            await(release);
+            return new OpenAIResultDTO("결과", false, 10, 5);
+        };
+
+        List<CompletableFuture<OpenAIResultDTO>> results = submitAll(upstream);
+        awaitFollowers();
+        release.countDown();
+
+        List<OpenAIResultDTO> done = new ArrayList<>();
+        for (CompletableFuture<OpenAIResultDTO> result : results) {
+            done.add(result.get(5, TimeUnit.SECONDS));
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(done).extracting(OpenAIResultDTO::content).containsOnly("결과");
+        // 직접 호출한 요청 하나만 cached=false
+        assertThat(done).filteredOn(r -> !r.cached()).hasSize(1);
+
+        // 진행 중 항목이 제거되어 다음 요청은 새로 호출
+        coalescer.execute(KEY, upstream);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void leaderFailureReachesEveryFollower() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<OpenAIResultDTO> failing = () -> {
+            calls.incrementAndGet();
+            await(release);
+            throw new IllegalStateException("upstream down");
+        };
+
+        List<CompletableFuture<OpenAIResultDTO>> results = submitAll(failing);
+        awaitFollowers();
+        release.countDown();
+
+        for (CompletableFuture<OpenAIResultDTO> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasRootCauseInstanceOf(IllegalStateException.class)
+                    .hasRootCauseMessage("upstream down");
+        }
+        assertThat(calls).hasValue(1);
+
+        // 실패도 공유되지 않고 남지 않음 - 다음 요청은 새로 호출
+        OpenAIResultDTO retried = coalescer.execute(KEY, () -> new OpenAIResultDTO("재시도", false));
+        assertThat(retried.content()).isEqualTo("재시도");
+        assertThat(retried.cached()).isFalse();
+    }
+
+    private List<CompletableFuture<OpenAIResultDTO>> submitAll(Supplier<OpenAIResultDTO> upstream) {
+        List<CompletableFuture<OpenAIResultDTO>> results = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> coalescer.execute(KEY, upstream), executor));
+        }
+        return results;
+    }
+
+    // 대표 요청을 제외한 나머지가 모두 병합될 때까지 대기
+    private void awaitFollowers() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("llm.single_flight.coalesced").counter().count() < REQUESTS - 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(meterRegistry.get("llm.single_flight.coalesced").counter().count()).isEqualTo(REQUESTS - 1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.phraiz.back.common.service;
+
+import com.phraiz.back.common.enums.Plan;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 월 토큰 한도 Lua 스크립트 - 실제 Redis(embedded) 에서 선차감/보정/반환이 정확히 한 번씩 반영되는지
+class TokenQuotaServiceTest {
+
+    private static final String MEMBER_ID = "member";
+    private static final long LIMIT = Plan.FREE.getMaxTokensPerMonth();
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final MonthlyTokenUsageService tokenUsageService = mock(MonthlyTokenUsageService.class);
+    private TokenQuotaService tokenQuotaService;
+    private String key;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        tokenQuotaService = new TokenQuotaService(redisTemplate, tokenUsageService);
+        key = RedisService.monthlyUsageKey(MEMBER_ID, YearMonth.now().toString());
+    }
+
+    @Test
+    void initializesFromDbValueOnce() {
+        given(tokenUsageService.findOrInitializeUsedTokens(anyString(), anyString())).willReturn(1000L);
+
+        TokenQuotaService.Reservation first = tokenQuotaService.reserve(MEMBER_ID, Plan.FREE, 500);
+        TokenQuotaService.Reservation second = tokenQuotaService.reserve(MEMBER_ID, Plan.FREE, 500);
+
+        assertThat(first.isGranted()).isTrue();
+        assertThat(first.getRemaining()).isEqualTo(LIMIT - 1500);
+        assertThat(second.getRemaining()).isEqualTo(LIMIT - 2000);
+        assertThat(used()).isEqualTo(2000);
+        // 키가 생긴 뒤에는 DB 를 다시 조회하지 않음
+        verify(tokenUsageService, times(1)).findOrInitializeUsedTokens(MEMBER_ID, YearMonth.now().toString());
+        // 이번 달 마지막 시각에 만료
+        long expireAt = RedisService.endOfMonthEpochSecond(YearMonth.now());
+        long ttl = redisTemplate.getExpire(key);
+        assertThat(System.currentTimeMillis() / 1000 + ttl).isBetween(expireAt - 5, expireAt + 5);
+    }
+
+    @Test
+    void rejectsReservationOverLimitWithoutCharging() {
+        redisTemplate.opsForValue().set(key, String.valueOf(LIMIT - 100));
+
+        TokenQuotaService.Reservation reservation = tokenQuotaService.reserve(MEMBER_ID, Plan.FREE, 200);
+
+        assertThat(reservation.isGranted()).isFalse();
+        assertThat(reservation.getReservedTokens()).isZero();
+        assertThat(reservation.getRemaining()).isEqualTo(100);
+        assertThat(used()).isEqualTo(LIMIT - 100);
+
+        // 거절된 예약은 보정/반환해도 바뀌지 않음
+        tokenQuotaService.reconcile(reservation, 500);
+        tokenQuotaService.refund(reservation);
+        assertThat(used()).isEqualTo(LIMIT - 100);
+        verify(tokenUsageService, never()).findOrInitializeUsedTokens(anyString(), anyString());
+    }
+
+    @Test
+    void reconcilesUpAndDown() {
+        redisTemplate.opsForValue().set(key, "0");
+
+        // 실제 사용량이 더 많으면 추가 차감
+        TokenQuotaService.Reservation up = tokenQuotaService.reserve(MEMBER_ID, Plan.FREE, 1000);
+        tokenQuotaService.reconcile(up, 1500);
+        assertThat(used()).isEqualTo(1500);
+
+        // 더 적으면 차이만큼 반환
+        TokenQuotaService.Reservation down = tokenQuotaService.reserve(MEMBER_ID, Plan.FREE, 1000);
+        tokenQuotaService.reconcile(down, 400);
+        assertThat(used()).isEqualTo(1900);
+    }
+
+    @Test
+    void settlesOnlyOnce() {
+        redisTemplate.opsForValue().set(key, "0");
+
+        TokenQuotaService.Reservation reservation = tokenQuotaService.reserve(MEMBER_ID, Plan.FREE, 1000);
+        tokenQuotaService.reconcile(reservation, 300);
+        // 저장 후 실패 콜백이 다시 불려도 반환하지 않음
+        tokenQuotaService.refund(reservation);
+        tokenQuotaService.reconcile(reservation, 300);
+        assertThat(used()).isEqualTo(300);
+
+        TokenQuotaService.Reservation failed = tokenQuotaService.reserve(MEMBER_ID, Plan.FREE, 1000);
+        tokenQuotaService.refund(failed);
+        tokenQuotaService.refund(failed);
+        assertThat(used()).isEqualTo(300);
+    }
+
+    @Test
+    void adjustmentNeverGoesBelowZero() {
+        redisTemplate.opsForValue().set(key, "0");
+        TokenQuotaService.Reservation reservation = tokenQuotaService.reserve(MEMBER_ID, Plan.FREE, 1000);
+        // 다른 경로로 사용량이 줄어든 경우 (예: DB 값으로 재초기화)
+        redisTemplate.opsForValue().set(key, "200");
+
+        tokenQuotaService.refund(reservation);
+
+        assertThat(used()).isZero();
+    }
+
+    @Test
+    void ignoresAdjustmentAfterMonthKeyExpired() {
+        redisTemplate.opsForValue().set(key, "0");
+        TokenQuotaService.Reservation reservation = tokenQuotaService.reserve(MEMBER_ID, Plan.FREE, 1000);
+        // 월이 바뀌어 지난달 키가 만료된 경우
+        redisTemplate.delete(key);
+
+        tokenQuotaService.reconcile(reservation, 3000);
+
+        assertThat(redisTemplate.hasKey(key)).isFalse();
+    }
+
+    private long used() {
+        return Long.parseLong(redisTemplate.opsForValue().get(key));
+    }
+}
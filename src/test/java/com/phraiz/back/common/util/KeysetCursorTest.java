@@ -0,0 +1,68 @@
+package com.phraiz.back.common.util;
+
+import com.phraiz.back.common.exception.GlobalErrorCode;
+import com.phraiz.back.common.exception.custom.BusinessLogicException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void roundTripsCreatedAtAndId() {
+        // DB 의 datetime(6) 정밀도까지 유지되어야 같은 시각의 항목을 건너뛰지 않음
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(KeysetCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripsWholeSeconds() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 3, 1, 0, 0), 1L);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void blankCursorIsFirstPage() {
+        assertThat(KeysetCursor.decode(null)).isEqualTo(KeysetCursor.FIRST);
+        assertThat(KeysetCursor.decode("")).isEqualTo(KeysetCursor.FIRST);
+        assertThat(KeysetCursor.decode("  ")).isEqualTo(KeysetCursor.FIRST);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "not a cursor",                       // base64url 아님
+            "MjAyNS0wMy0wMVQxMjozMA",             // 구분자 없음 ("2025-03-01T12:30")
+            "MjAyNS0xMy0wMVQxMjozMHw0Mg",         // 잘못된 날짜 ("2025-13-01T12:30|42")
+            "MjAyNS0wMy0wMVQxMjozMHxhYmM",        // 숫자가 아닌 id ("2025-03-01T12:30|abc")
+    })
+    void rejectsTamperedCursor(String cursor) {
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+                .isInstanceOf(BusinessLogicException.class)
+                .satisfies(e -> {
+                    BusinessLogicException ex = (BusinessLogicException) e;
+                    assertThat(ex.getErrorCode()).isEqualTo(GlobalErrorCode.INVALID_CURSOR);
+                    assertThat(ex.getErrorCode().getStatus()).isEqualTo(400);
+                });
+    }
+
+    @Test
+    void rejectsCursorWithAlteredPayload() {
+        String tampered = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2025-03-01T12:30|42|7".getBytes(StandardCharsets.UTF_8));
+
+        // 마지막 구분자 기준으로 나누므로 앞부분이 날짜가 아니게 됨
+        assertThatThrownBy(() -> KeysetCursor.decode(tampered)).isInstanceOf(BusinessLogicException.class);
+    }
+}
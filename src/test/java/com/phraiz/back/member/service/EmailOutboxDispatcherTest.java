@@ -0,0 +1,143 @@
+package com.phraiz.back.member.service;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.phraiz.back.member.domain.EmailOutbox;
+import com.phraiz.back.member.enums.EmailOutboxStatus;
+import com.phraiz.back.member.repository.EmailOutboxRepository;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 가짜 SMTP 서버(GreenMail) 로 outbox 발송 확인 - 발송 완료 시 본문 삭제, 실패 시 재시도 후 DEAD
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "email.outbox.max-attempts=3",
+        "email.outbox.backoff-base-seconds=0"
+})
+@Import({EmailOutboxService.class, EmailOutboxDispatcher.class, EmailOutboxDispatcherTest.MailConfig.class})
+// 발송기가 커밋된 행을 읽어야 하므로 테스트 트랜잭션을 열지 않음
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmailOutboxDispatcherTest {
+
+    private static final String USER = "outbox";
+    private static final String PASSWORD = "secret";
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withUser(USER, PASSWORD));
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+    @Autowired
+    private EmailOutboxDispatcher emailOutboxDispatcher;
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+    @Autowired
+    private JavaMailSenderImpl mailSender;
+
+    @TestConfiguration
+    static class MailConfig {
+
+        @Bean
+        JavaMailSenderImpl javaMailSender() {
+            JavaMailSenderImpl sender = new JavaMailSenderImpl();
+            sender.setHost("127.0.0.1");
+            sender.setPort(ServerSetupTest.SMTP.getPort());
+            sender.setUsername(USER);
+            Properties props = new Properties();
+            props.put("mail.smtp.auth", "true");
+            sender.setJavaMailProperties(props);
+            return sender;
+        }
+
+        @Bean(name = "mailExecutor")
+        ThreadPoolTaskExecutor mailExecutor() {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(2);
+            executor.setThreadNamePrefix("mail-test-");
+            executor.initialize();
+            return executor;
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        emailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    void sendsAndRedactsContent() throws Exception {
+        mailSender.setPassword(PASSWORD);
+
+        // enqueue 커밋 직후 발송
+        emailOutboxService.enqueue("user@phraiz.com", "인증 코드", "<p>123456</p>");
+
+        EmailOutbox outbox = awaitAttempts(1);
+        assertThat(outbox.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        assertThat(outbox.getSentAt()).isNotNull();
+        assertThat(outbox.getContent()).isNull();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(1);
+        assertThat(received[0].getSubject()).isEqualTo("인증 코드");
+    }
+
+    @Test
+    void retriesUntilDeadWhenSmtpRejects() throws Exception {
+        // 인증 실패 - 재시도 가능한 오류로 처리
+        mailSender.setPassword("wrong");
+
+        emailOutboxService.enqueue("user@phraiz.com", "인증 코드", "<p>123456</p>");
+        EmailOutbox afterFirst = awaitAttempts(1);
+        assertThat(afterFirst.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(afterFirst.getAttempts()).isEqualTo(1);
+        assertThat(afterFirst.getLastError()).isNotBlank();
+
+        emailOutboxDispatcher.poll();
+        assertThat(awaitAttempts(2).getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+
+        // max-attempts(3) 도달 - 더 이상 발송하지 않음
+        emailOutboxDispatcher.poll();
+        EmailOutbox dead = awaitAttempts(3);
+        assertThat(dead.getStatus()).isEqualTo(EmailOutboxStatus.DEAD);
+        assertThat(dead.getAttempts()).isEqualTo(3);
+
+        emailOutboxDispatcher.poll();
+        assertThat(single().getAttempts()).isEqualTo(3);
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    // 발송은 mailExecutor 에서 진행되므로 결과가 기록될 때까지 대기
+    private EmailOutbox awaitAttempts(int attempts) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        EmailOutbox outbox = single();
+        while (outbox.getAttempts() < attempts && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            outbox = single();
+        }
+        return outbox;
+    }
+
+    private EmailOutbox single() {
+        assertThat(emailOutboxRepository.count()).isEqualTo(1);
+        return emailOutboxRepository.findAll().get(0);
+    }
+}
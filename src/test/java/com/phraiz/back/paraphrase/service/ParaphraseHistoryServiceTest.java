@@ -0,0 +1,96 @@
+package com.phraiz.back.paraphrase.service;
+
+import com.phraiz.back.common.domain.BaseHistory;
+import com.phraiz.back.common.dto.response.HistoryMetaDTO;
+import com.phraiz.back.common.enums.Plan;
+import com.phraiz.back.member.service.MemberPlanCache;
+import com.phraiz.back.paraphrase.domain.ParaphraseContent;
+import com.phraiz.back.paraphrase.repository.ParaphraseContentRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+// content 추가 시 실행되는 SQL 수가 히스토리의 content 개수와 무관하게 일정한지 확인
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(ParaphraseHistoryService.class)
+class ParaphraseHistoryServiceTest {
+
+    private static final String MEMBER_ID = "member";
+
+    @Autowired
+    private ParaphraseHistoryService paraphraseHistoryService;
+    @Autowired
+    private ParaphraseContentRepository paraphraseContentRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private MemberPlanCache memberPlanCache;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        given(memberPlanCache.getPlan(MEMBER_ID)).willReturn(Plan.PRO);
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void appendContent_keepsNewestContentsWithConstantStatements() {
+        // 새 히스토리의 첫 content 는 1번
+        HistoryMetaDTO first = paraphraseHistoryService
+                .appendContent(MEMBER_ID, null, null, "원문", "패러프레이징", 50, "standard", null);
+        assertThat(first.sequenceNumber()).isEqualTo(1);
+        Long historyId = first.id();
+        flushAndClear();
+
+        long belowCap = statementsForAppend(historyId);
+        for (int i = 0; i < 20; i++) {
+            append(historyId);
+        }
+        flushAndClear();
+        long aboveCap = statementsForAppend(historyId);
+
+        // 히스토리 조회 1 + 카운터 update 1 + 카운터 조회 1 + 삭제 1 + 삽입 1
+        assertThat(belowCap).isEqualTo(5);
+        assertThat(aboveCap).isEqualTo(belowCap);
+
+        List<ParaphraseContent> contents = paraphraseContentRepository.findByHistoryIdOrderBySequenceNumberDesc(historyId);
+        assertThat(contents).hasSize(BaseHistory.MAX_CONTENTS);
+        assertThat(contents.get(0).getSequenceNumber()).isEqualTo(23);
+        assertThat(contents.get(contents.size() - 1).getSequenceNumber()).isEqualTo(14);
+    }
+
+    private long statementsForAppend(Long historyId) {
+        statistics.clear();
+        append(historyId);
+        entityManager.flush();
+        long count = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        return count;
+    }
+
+    private HistoryMetaDTO append(Long historyId) {
+        return paraphraseHistoryService.appendContent(MEMBER_ID, null, historyId, "원문", "패러프레이징", 50, "standard", null);
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
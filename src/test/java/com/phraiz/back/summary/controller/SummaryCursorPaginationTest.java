@@ -0,0 +1,199 @@
+package com.phraiz.back.summary.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phraiz.back.common.enums.Plan;
+import com.phraiz.back.common.exception.handler.BusinessExceptionHandler;
+import com.phraiz.back.member.service.MemberPlanCache;
+import com.phraiz.back.summary.domain.SummaryFolder;
+import com.phraiz.back.summary.domain.SummaryHistory;
+import com.phraiz.back.summary.repository.SummaryFolderRepository;
+import com.phraiz.back.summary.repository.SummaryHistoryRepository;
+import com.phraiz.back.summary.service.SummaryFolderService;
+import com.phraiz.back.summary.service.SummaryHistoryService;
+import com.phraiz.back.summary.service.SummaryService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 커서 기반 목록 (/folders/cursor, /histories/cursor)
+//  - 생성 시각이 같은 항목은 id 로 순서를 정해 페이지 사이에서 빠지거나 겹치지 않는지
+//  - 잘못된 커서는 400
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@Import({SummaryHistoryService.class, SummaryFolderService.class})
+class SummaryCursorPaginationTest {
+
+    private static final String MEMBER_ID = "member";
+    private static final LocalDateTime SAME_TIME = LocalDateTime.of(2025, 3, 1, 12, 0, 0, 500_000_000);
+
+    @Autowired
+    private SummaryHistoryService summaryHistoryService;
+    @Autowired
+    private SummaryFolderService summaryFolderService;
+    @Autowired
+    private SummaryHistoryRepository summaryHistoryRepository;
+    @Autowired
+    private SummaryFolderRepository summaryFolderRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private MemberPlanCache memberPlanCache;
+    @MockitoBean
+    private SummaryService summaryService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        given(memberPlanCache.getPlan(MEMBER_ID)).willReturn(Plan.PRO);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new SummaryController(summaryService, summaryFolderService, summaryHistoryService))
+                .setControllerAdvice(new BusinessExceptionHandler())
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(MEMBER_ID, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void historiesWithEqualTimestampsArePagedByIdWithoutGapsOrDuplicates() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(summaryHistoryRepository.save(SummaryHistory.builder()
+                    .memberId(MEMBER_ID)
+                    .name("history-" + i)
+                    .build()).getId());
+        }
+        // 가장 최근 항목 하나만 시각이 다르고 나머지는 모두 같은 시각
+        Long newest = summaryHistoryRepository.save(SummaryHistory.builder()
+                .memberId(MEMBER_ID)
+                .name("newest")
+                .build()).getId();
+        setCreatedAt("SummaryHistory", SAME_TIME);
+        setCreatedAt("SummaryHistory", newest, SAME_TIME.plusSeconds(1));
+
+        List<Long> seen = collectIds("/api/summary/histories/cursor");
+
+        List<Long> expected = new ArrayList<>(List.of(newest));
+        expected.addAll(newestFirst(ids));
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void foldersWithEqualTimestampsArePagedByIdWithoutGapsOrDuplicates() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(summaryFolderRepository.save(SummaryFolder.builder()
+                    .memberId(MEMBER_ID)
+                    .name("folder-" + i)
+                    .build()).getId());
+        }
+        setCreatedAt("SummaryFolder", SAME_TIME);
+
+        List<Long> seen = collectIds("/api/summary/folders/cursor");
+
+        assertThat(seen).containsExactlyElementsOf(newestFirst(ids));
+    }
+
+    @Test
+    void offsetHistoriesAreFlatItems() throws Exception {
+        Long id = summaryHistoryRepository.save(SummaryHistory.builder()
+                .memberId(MEMBER_ID)
+                .name("history")
+                .build()).getId();
+
+        mockMvc.perform(get("/api/summary/histories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(id))
+                .andExpect(jsonPath("$.content[0].name").value("history"))
+                .andExpect(jsonPath("$.content[0].histories").doesNotExist());
+    }
+
+    @Test
+    void tamperedCursorIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/summary/histories/cursor").param("cursor", "not a cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("CLT006"));
+        mockMvc.perform(get("/api/summary/folders/cursor").param("cursor", "MjAyNS0wMy0wMVQxMjozMA"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("CLT006"));
+    }
+
+    // 크기 2 로 마지막 페이지까지 따라가며 받은 id 를 순서대로 모음
+    private List<Long> collectIds(String path) throws Exception {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        for (int page = 0; page < 10; page++) {
+            var request = get(path).param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode json = objectMapper.readTree(body);
+            for (JsonNode item : json.get("content")) {
+                // 폴더 목록은 기존 응답 형식(항목마다 folders 배열)을 유지
+                seen.add(item.has("folders") ? item.get("folders").get(0).get("id").asLong() : item.get("id").asLong());
+            }
+            if (!json.get("hasNext").asBoolean()) {
+                assertThat(json.get("nextCursor").isNull()).isTrue();
+                return seen;
+            }
+            cursor = json.get("nextCursor").asText();
+        }
+        throw new AssertionError("마지막 페이지에 도달하지 않음");
+    }
+
+    // 시각이 같으면 id 가 큰(나중에 만든) 항목이 먼저
+    private List<Long> newestFirst(List<Long> ids) {
+        List<Long> reversed = new ArrayList<>(ids);
+        Collections.reverse(reversed);
+        return reversed;
+    }
+
+    private void setCreatedAt(String entity, LocalDateTime createdAt) {
+        entityManager.flush();
+        entityManager.createQuery("update " + entity + " e set e.createdAt = :createdAt")
+                .setParameter("createdAt", createdAt)
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    private void setCreatedAt(String entity, Long id, LocalDateTime createdAt) {
+        entityManager.createQuery("update " + entity + " e set e.createdAt = :createdAt where e.id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", id)
+                .executeUpdate();
+        entityManager.clear();
+    }
+}
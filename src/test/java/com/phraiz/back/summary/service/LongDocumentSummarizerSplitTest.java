@@ -0,0 +1,77 @@
+package com.phraiz.back.summary.service;
+
+import com.phraiz.back.common.util.GptTokenUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 조각 나누기(split) 경계 확인 - 조각끼리 겹치거나 빠진 내용이 없고, 빈 조각이 생기지 않는지
+class LongDocumentSummarizerSplitTest {
+
+    private static final int CHUNK_TOKENS = 40;
+
+    // split 은 OpenAI 호출을 하지 않으므로 의존성 없이 생성
+    private final LongDocumentSummarizer summarizer =
+            new LongDocumentSummarizer(null, null, CHUNK_TOKENS, CHUNK_TOKENS * 2, 2);
+
+    @Test
+    void splitsOnParagraphBoundariesWithoutOverlap() {
+        List<String> paragraphs = IntStream.range(0, 12)
+                .mapToObj(i -> "문단 " + i + " 은 긴 문서의 일부이며 요약에 필요한 내용을 담고 있습니다.")
+                .toList();
+
+        List<String> chunks = summarizer.split(String.join("\n\n", paragraphs));
+
+        assertThat(chunks).hasSizeGreaterThan(1);
+        assertThat(chunks).allSatisfy(chunk -> {
+            assertThat(chunk).isNotBlank();
+            assertThat(GptTokenUtil.countTokens(chunk)).isLessThanOrEqualTo(CHUNK_TOKENS);
+        });
+        // 조각을 다시 나누면 원래 문단이 순서대로 한 번씩만 나와야 함
+        List<String> rejoined = new ArrayList<>();
+        chunks.forEach(chunk -> rejoined.addAll(List.of(chunk.split("\n\n"))));
+        assertThat(rejoined).containsExactlyElementsOf(paragraphs);
+    }
+
+    @Test
+    void doesNotEmitEmptyFinalChunk() {
+        String text = "첫 번째 문단입니다.\n\n두 번째 문단입니다.\n\n \n\n\t\n\n";
+
+        List<String> chunks = summarizer.split(text);
+
+        assertThat(chunks).containsExactly("첫 번째 문단입니다.\n\n두 번째 문단입니다.");
+    }
+
+    @Test
+    void returnsNoChunksForBlankText() {
+        assertThat(summarizer.split("\n\n   \n\n")).isEmpty();
+    }
+
+    @Test
+    void splitsLongParagraphBySentence() {
+        List<String> sentences = IntStream.range(0, 10)
+                .mapToObj(i -> "문장 " + i + " 은 한 문단 안에서 이어지는 긴 설명입니다.")
+                .toList();
+
+        List<String> chunks = summarizer.split(String.join(" ", sentences));
+
+        assertThat(chunks).hasSizeGreaterThan(1);
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk).isNotBlank());
+        assertThat(String.join(" ", chunks)).isEqualTo(String.join(" ", sentences));
+    }
+
+    @Test
+    void cutsTextWithoutSentenceBoundariesWithoutLosingCharacters() {
+        String text = "가나다라마바사아자차카타파하".repeat(40);
+
+        List<String> chunks = summarizer.split(text);
+
+        assertThat(chunks).hasSizeGreaterThan(1);
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk).isNotEmpty());
+        assertThat(String.join("", chunks)).isEqualTo(text);
+    }
+}
@@ -0,0 +1,83 @@
+package com.phraiz.back.summary.service;
+
+import com.phraiz.back.common.dto.response.OpenAIResultDTO;
+import com.phraiz.back.common.service.LlmExecutionService;
+import com.phraiz.back.common.service.OpenAIService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+// 긴 문서 요약(map-reduce) 결과 합치기 - 부분 요약 사용량은 더하고, 최종 요약 실패 여부는 유지하는지
+class LongDocumentSummarizerTest {
+
+    private static final int CHUNK_TOKENS = 40;
+    private static final String MODE = "full";
+
+    private final OpenAIService openAIService = mock(OpenAIService.class);
+    private final LlmExecutionService llmExecutionService = mock(LlmExecutionService.class);
+    private final LongDocumentSummarizer summarizer =
+            new LongDocumentSummarizer(openAIService, llmExecutionService, CHUNK_TOKENS, CHUNK_TOKENS * 2, 2);
+
+    // 한 번에 요약할 수 없는 길이 - 조각으로 나눠 부분 요약 후 최종 요약
+    private final String longText = IntStream.range(0, 12)
+            .mapToObj(i -> "문단 " + i + " 은 긴 문서의 일부이며 요약에 필요한 내용을 담고 있습니다.")
+            .collect(Collectors.joining("\n\n"));
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // 조각 요약은 호출한 스레드에서 바로 실행
+        given(llmExecutionService.submitChunk(any())).willAnswer(invocation ->
+                CompletableFuture.completedFuture(((Supplier<Object>) invocation.getArgument(0)).get()));
+        // 조각 요약은 짧게 (모드가 MODE 가 아닌 호출)
+        given(openAIService.callSummaryOpenAI(anyString(), anyString()))
+                .willReturn(new OpenAIResultDTO("부분 요약", false, 10, 2));
+    }
+
+    @Test
+    void addsChunkUsageToFinalResult() {
+        given(openAIService.callSummaryOpenAI(anyString(), eq(MODE)))
+                .willReturn(new OpenAIResultDTO("최종 요약", false, 20, 5));
+
+        OpenAIResultDTO result = summarizer.summarize(longText, MODE);
+
+        assertThat(result.failed()).isFalse();
+        assertThat(result.content()).isEqualTo("최종 요약");
+        assertThat(result.promptTokens()).isGreaterThan(20);
+        assertThat(result.completionTokens()).isGreaterThan(5);
+    }
+
+    @Test
+    void keepsFailureOfFinalReduceCall() {
+        given(openAIService.callSummaryOpenAI(anyString(), eq(MODE)))
+                .willReturn(OpenAIResultDTO.failure("Error: upstream down"));
+
+        OpenAIResultDTO result = summarizer.summarize(longText, MODE);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.content()).isEqualTo("Error: upstream down");
+    }
+
+    @Test
+    void keepsFailureOfFinalStreamingReduceCall() {
+        given(openAIService.streamSummaryOpenAI(anyString(), eq(MODE), any()))
+                .willReturn(OpenAIResultDTO.failure("Error: stream closed"));
+
+        Consumer<String> onDelta = delta -> { };
+        OpenAIResultDTO result = summarizer.streamSummarize(longText, MODE, onDelta);
+
+        assertThat(result.failed()).isTrue();
+    }
+}
@@ -0,0 +1,91 @@
+package com.phraiz.back.summary.service;
+
+import com.phraiz.back.common.exception.GlobalErrorCode;
+import com.phraiz.back.common.exception.custom.BusinessLogicException;
+import com.phraiz.back.summary.exception.SummaryErrorCode;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// PDF 텍스트 추출 - 페이지 구간을 나눠 읽어도 순서가 유지되는지, 한도/대기열 포화 시 거절하는지
+class PdfTextExtractorTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    @Test
+    void extractsPagesInOrderAcrossRanges() throws IOException {
+        PdfTextExtractor extractor = extractor(DIRECT, 100_000);
+
+        String text = extractor.extract(pdf(5)).join();
+
+        assertThat(text).containsSubsequence("Page 1", "Page 2", "Page 3", "Page 4", "Page 5");
+    }
+
+    @Test
+    void rejectsTooManyPages() throws IOException {
+        PdfTextExtractor extractor = extractor(DIRECT, 100_000);
+
+        assertThatThrownBy(() -> extractor.extract(pdf(11)).join())
+                .isInstanceOf(CompletionException.class)
+                .cause().isInstanceOfSatisfying(BusinessLogicException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(SummaryErrorCode.FILE_PAGE_LIMIT_EXCEEDED));
+    }
+
+    @Test
+    void stopsWhenTextBudgetIsExceeded() throws IOException {
+        PdfTextExtractor extractor = extractor(DIRECT, 20);
+
+        assertThatThrownBy(() -> extractor.extract(pdf(5)).join())
+                .isInstanceOf(CompletionException.class)
+                .cause().isInstanceOfSatisfying(BusinessLogicException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(SummaryErrorCode.FILE_TEXT_TOO_LONG));
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() throws IOException {
+        PdfTextExtractor extractor = extractor(task -> {
+            throw new RejectedExecutionException("full");
+        }, 100_000);
+        MockMultipartFile file = pdf(1);
+
+        assertThatThrownBy(() -> extractor.extract(file))
+                .isInstanceOfSatisfying(BusinessLogicException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(GlobalErrorCode.LLM_TOO_MANY_REQUESTS));
+    }
+
+    // 최대 10 페이지, 2 페이지씩 추출
+    private PdfTextExtractor extractor(Executor executor, long maxChars) {
+        return new PdfTextExtractor(executor, DataSize.ofMegabytes(1), 10, maxChars, 2, DataSize.ofMegabytes(1));
+    }
+
+    private MockMultipartFile pdf(int pages) throws IOException {
+        try (PDDocument document = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (int i = 1; i <= pages; i++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 12);
+                    content.newLineAtOffset(72, 700);
+                    content.showText("Page " + i);
+                    content.endText();
+                }
+            }
+            document.save(out);
+            return new MockMultipartFile("file", "test.pdf", "application/pdf", out.toByteArray());
+        }
+    }
+}